@@ -0,0 +1,46 @@
+package com.base.utility.benchmarks;
+
+import com.base.utility.exception.response.ApiResponse;
+import com.base.utility.exception.utils.ErrorCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiResponseFactoryBenchmark {
+    private final Map<String, Object> details = Map.of("resource", "User", "identifier", "42");
+
+    @Benchmark
+    public ApiResponse<Map<String, Object>> success() {
+        return ApiResponse.success(Fixtures.USER);
+    }
+
+    @Benchmark
+    public ApiResponse<Map<String, Object>> successWithRequestId() {
+        return ApiResponse.success(Fixtures.USER, Fixtures.REQUEST_ID);
+    }
+
+    @Benchmark
+    public ApiResponse<Void> error() {
+        return ApiResponse.error(ErrorCode.RESOURCE_NOT_FOUND);
+    }
+
+    @Benchmark
+    public ApiResponse<Void> errorWithDetails() {
+        return ApiResponse.error(ErrorCode.RESOURCE_NOT_FOUND, details, Fixtures.REQUEST_ID);
+    }
+}
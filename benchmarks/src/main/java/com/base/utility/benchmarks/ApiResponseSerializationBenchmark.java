@@ -0,0 +1,69 @@
+package com.base.utility.benchmarks;
+
+import com.base.utility.exception.response.ApiResponse;
+import com.base.utility.exception.response.ErrorDetail;
+import com.base.utility.exception.response.MetaData;
+import com.base.utility.exception.utils.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiResponseSerializationBenchmark {
+    private ApiResponse<Map<String, Object>> success;
+    private ApiResponse<Void> error;
+    private ErrorDetail errorDetail;
+    private MetaData metaData;
+
+    @Setup
+    public void setUp() {
+        success = ApiResponse.success(Fixtures.USER, Fixtures.REQUEST_ID);
+        error = ApiResponse.error(ErrorCode.RESOURCE_NOT_FOUND,
+                Map.of("resource", "User", "identifier", "42"), Fixtures.REQUEST_ID);
+        errorDetail = error.getError();
+        metaData = MetaData.builder()
+                .requestId(Fixtures.REQUEST_ID)
+                .timestamp(Instant.now())
+                .page(3)
+                .size(50)
+                .total(12_345L)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] successEnvelope() throws JsonProcessingException {
+        return Fixtures.OBJECT_MAPPER.writeValueAsBytes(success);
+    }
+
+    @Benchmark
+    public byte[] errorEnvelope() throws JsonProcessingException {
+        return Fixtures.OBJECT_MAPPER.writeValueAsBytes(error);
+    }
+
+    @Benchmark
+    public byte[] errorDetail() throws JsonProcessingException {
+        return Fixtures.OBJECT_MAPPER.writeValueAsBytes(errorDetail);
+    }
+
+    @Benchmark
+    public byte[] metaData() throws JsonProcessingException {
+        return Fixtures.OBJECT_MAPPER.writeValueAsBytes(metaData);
+    }
+}
@@ -0,0 +1,118 @@
+package com.base.utility.benchmarks;
+
+import com.base.utility.exception.response.ApiResponse;
+import com.base.utility.exception.utils.ErrorCode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes and decodes typical envelopes as JSON, Smile and CBOR, configured like the converters
+ * registered by BaseUtilityAutoConfiguration. Encoded sizes are printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnvelopeFormatBenchmark {
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    private ObjectMapper mapper;
+    private ApiResponse<Map<String, Object>> single;
+    private ApiResponse<List<Map<String, Object>>> page;
+    private ApiResponse<Void> error;
+    private byte[] encodedSingle;
+    private byte[] encodedPage;
+    private byte[] encodedError;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = mapper(format);
+        single = ApiResponse.success(Fixtures.USER, Fixtures.REQUEST_ID);
+        List<Map<String, Object>> users = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            users.add(Map.of(
+                    "id", 1_000L + i,
+                    "email", "user" + i + "@example.com",
+                    "name", "User " + i,
+                    "roles", List.of("USER"),
+                    "active", i % 3 != 0));
+        }
+        page = ApiResponse.success(users, Fixtures.REQUEST_ID);
+        error = ApiResponse.error(ErrorCode.RESOURCE_NOT_FOUND,
+                Map.of("resource", "User", "identifier", "42"), Fixtures.REQUEST_ID);
+
+        encodedSingle = mapper.writeValueAsBytes(single);
+        encodedPage = mapper.writeValueAsBytes(page);
+        encodedError = mapper.writeValueAsBytes(error);
+        System.out.printf("%n[%s] encoded bytes: single=%d page=%d error=%d%n",
+                format, encodedSingle.length, encodedPage.length, encodedError.length);
+    }
+
+    private static ObjectMapper mapper(String format) {
+        ObjectMapper mapper = switch (format) {
+            case "smile" -> new ObjectMapper(SmileFactory.builder()
+                    .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                    .build());
+            case "cbor" -> new ObjectMapper(CBORFactory.builder()
+                    .enable(CBORGenerator.Feature.STRINGREF)
+                    .build());
+            default -> new ObjectMapper();
+        };
+        return mapper.findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Benchmark
+    public byte[] encodeSingle() throws IOException {
+        return mapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] encodePage() throws IOException {
+        return mapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] encodeError() throws IOException {
+        return mapper.writeValueAsBytes(error);
+    }
+
+    @Benchmark
+    public JsonNode decodeSingle() throws IOException {
+        return mapper.readTree(encodedSingle);
+    }
+
+    @Benchmark
+    public JsonNode decodePage() throws IOException {
+        return mapper.readTree(encodedPage);
+    }
+
+    @Benchmark
+    public JsonNode decodeError() throws IOException {
+        return mapper.readTree(encodedError);
+    }
+}
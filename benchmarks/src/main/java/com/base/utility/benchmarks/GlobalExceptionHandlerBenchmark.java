@@ -0,0 +1,244 @@
+package com.base.utility.benchmarks;
+
+import com.base.utility.common.autoconfigure.BaseUtilityAutoConfiguration;
+import com.base.utility.common.autoconfigure.BaseUtilityProperties;
+import com.base.utility.common.deadline.DeadlineExceededException;
+import com.base.utility.common.metrics.ErrorMetrics;
+import com.base.utility.common.parsing.BodyTooLargeException;
+import com.base.utility.exception.logging.ErrorLogGovernor;
+import com.base.utility.exception.type.BusinessException;
+import com.base.utility.exception.type.DuplicateResourceException;
+import com.base.utility.exception.type.ExternalServiceException;
+import com.base.utility.exception.type.ResourceNotFoundException;
+import com.base.utility.exception.type.ValidationException;
+import com.base.utility.exception.utils.ErrorCode;
+import com.base.utility.exception.utils.GlobalExceptionHandler;
+import com.base.utility.exception.validation.ValidationDetailsLimits;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exception-to-bytes cost of each handler: building the response and serializing it the way the
+ * message converters would. Library exceptions are constructed per invocation since their
+ * construction is part of what the library controls; framework exceptions are prebuilt. The handler
+ * is wired like the auto-configured one, with default properties, so error metrics, the log governor
+ * and the error code catalog are all in the measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GlobalExceptionHandlerBenchmark {
+    private ErrorLogGovernor logGovernor;
+    private GlobalExceptionHandler handler;
+    private ConstraintViolationException constraintViolation;
+    private HttpMessageNotReadableException messageNotReadable;
+    private MethodArgumentTypeMismatchException typeMismatch;
+    private MissingServletRequestParameterException missingParameter;
+    private HttpRequestMethodNotSupportedException methodNotSupported;
+    private DataIntegrityViolationException dataIntegrityViolation;
+    private QueryTimeoutException queryTimeout;
+    private SQLException sqlException;
+    private RuntimeException genericException;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        BaseUtilityProperties properties = new BaseUtilityProperties();
+        // Also applies the stack trace policy to the library exceptions built per invocation
+        BaseUtilityAutoConfiguration configuration = new BaseUtilityAutoConfiguration(properties);
+        BaseUtilityProperties.Validation validation = properties.getExceptions().getValidation();
+        logGovernor = configuration.errorLogGovernor(properties);
+        handler = new GlobalExceptionHandler(
+                new ErrorMetrics(),
+                logGovernor,
+                configuration.constraintViolationRegistry(properties),
+                new ValidationDetailsLimits(
+                        validation.getMaxErrors(),
+                        validation.getMaxRejectedValueLength(),
+                        validation.getMaxDepth(),
+                        validation.getMaxCollectionSize(),
+                        validation.isIncludeRejectedValues()),
+                configuration.errorCodeCatalog(properties));
+
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        constraintViolation = new ConstraintViolationException(validator.validate(new SignupRequest()));
+
+        messageNotReadable = new HttpMessageNotReadableException("JSON parse error",
+                new MockHttpInputMessage(new byte[0]));
+        typeMismatch = new MethodArgumentTypeMismatchException("abc", Long.class, "id",
+                endpointParameter(1), new NumberFormatException("abc"));
+        missingParameter = new MissingServletRequestParameterException("page", "int");
+        methodNotSupported = new HttpRequestMethodNotSupportedException("PATCH", List.of("GET", "POST"));
+        dataIntegrityViolation = new DataIntegrityViolationException(
+                "could not execute statement; SQL [n/a]; constraint [uk_user_email]; "
+                        + "ERROR: duplicate key value violates unique constraint \"uk_user_email\"");
+        queryTimeout = new QueryTimeoutException("Statement cancelled due to timeout");
+        sqlException = new SQLException("Connection refused", "08001");
+        genericException = new IllegalStateException("Unexpected");
+    }
+
+    @TearDown
+    public void tearDown() {
+        logGovernor.close();
+    }
+
+    @Benchmark
+    public byte[] resourceNotFound() throws IOException {
+        return Fixtures.write(handler.handleResourceNotFound(new ResourceNotFoundException("User", "42")));
+    }
+
+    @Benchmark
+    public byte[] validationException() throws IOException {
+        return Fixtures.write(handler.handleValidationException(
+                new ValidationException("Invalid status transition", null)));
+    }
+
+    @Benchmark
+    public byte[] duplicateResource() throws IOException {
+        return Fixtures.write(handler.handleDuplicateResourceException(
+                new DuplicateResourceException("User", "email", "jane.doe@example.com")));
+    }
+
+    @Benchmark
+    public byte[] businessException() throws IOException {
+        return Fixtures.write(handler.handleBusinessException(new BusinessException(ErrorCode.USER_ALREADY_ACTIVE)));
+    }
+
+    @Benchmark
+    public byte[] methodArgumentNotValid(BindingErrors errors) throws IOException {
+        return Fixtures.write(handler.handleValidationErrors(errors.exception));
+    }
+
+    @Benchmark
+    public byte[] constraintViolation() throws IOException {
+        return Fixtures.write(handler.handleConstraintViolation(constraintViolation));
+    }
+
+    @Benchmark
+    public byte[] httpMessageNotReadable() throws IOException {
+        return Fixtures.write(handler.handleHttpMessageNotReadable(messageNotReadable));
+    }
+
+    @Benchmark
+    public byte[] bodyTooLarge() throws IOException {
+        return Fixtures.write(handler.handleBodyTooLarge(new BodyTooLargeException(1_048_576)));
+    }
+
+    @Benchmark
+    public byte[] typeMismatch() throws IOException {
+        return Fixtures.write(handler.handleTypeMismatch(typeMismatch));
+    }
+
+    @Benchmark
+    public byte[] missingParameter() throws IOException {
+        return Fixtures.write(handler.handleMissingParameter(missingParameter));
+    }
+
+    @Benchmark
+    public byte[] methodNotSupported() throws IOException {
+        return Fixtures.write(handler.handleMethodNotSupported(methodNotSupported));
+    }
+
+    @Benchmark
+    public byte[] dataIntegrityViolation() throws IOException {
+        return Fixtures.write(handler.handleDataIntegrityViolation(dataIntegrityViolation));
+    }
+
+    @Benchmark
+    public byte[] queryTimeout() throws IOException {
+        return Fixtures.write(handler.handleQueryTimeout(queryTimeout));
+    }
+
+    @Benchmark
+    public byte[] deadlineExceeded() throws IOException {
+        return Fixtures.write(handler.handleDeadlineExceeded(new DeadlineExceededException()));
+    }
+
+    @Benchmark
+    public byte[] externalService() throws IOException {
+        return Fixtures.write(handler.handleExternalService(new ExternalServiceException(
+                ErrorCode.EXTERNAL_SERVICE_UNAVAILABLE, "payments", "Connection reset by peer")));
+    }
+
+    @Benchmark
+    public byte[] sqlException() throws IOException {
+        return Fixtures.write(handler.handleSQLException(sqlException));
+    }
+
+    @Benchmark
+    public byte[] genericException() throws IOException {
+        return Fixtures.write(handler.handleGenericException(genericException));
+    }
+
+    @SuppressWarnings("unused")
+    void endpoint(SignupRequest request, Long id) {
+    }
+
+    static MethodParameter endpointParameter(int index) throws NoSuchMethodException {
+        return new MethodParameter(GlobalExceptionHandlerBenchmark.class
+                .getDeclaredMethod("endpoint", SignupRequest.class, Long.class), index);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BindingErrors {
+        @Param({"1", "20", "1000"})
+        public int fieldErrors;
+
+        MethodArgumentNotValidException exception;
+
+        @Setup
+        public void setUp() throws NoSuchMethodException {
+            BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new SignupRequest(), "signupRequest");
+            for (int i = 0; i < fieldErrors; i++) {
+                bindingResult.addError(new FieldError("signupRequest", "items[" + i + "].email",
+                        "not-an-email-" + i, false, null, null, "must be a well-formed email address"));
+            }
+            exception = new MethodArgumentNotValidException(endpointParameter(0), bindingResult);
+        }
+    }
+
+    public static class SignupRequest {
+        @NotBlank
+        @Email
+        private String email;
+        @NotBlank
+        @Size(min = 8)
+        private String password;
+        @NotBlank
+        private String name;
+    }
+}
@@ -0,0 +1,63 @@
+package com.base.utility.benchmarks;
+
+import com.base.utility.common.filters.RequestCorrelationFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static com.base.utility.utils.AppConstant.REQUEST_UID_HEADER;
+
+/**
+ * Overhead the correlation filter adds around an empty filter chain, with and without an inbound
+ * request ID. Run with several threads to surface contention in ID generation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class RequestCorrelationFilterBenchmark {
+    private static final FilterChain EMPTY_CHAIN = (request, response) -> { };
+
+    private RequestCorrelationFilter filter;
+
+    @Setup
+    public void setUp() {
+        filter = new RequestCorrelationFilter();
+    }
+
+    // A fresh request per call, as the container would hand out; allocating the mocks is part of the score
+    @Benchmark
+    public MockHttpServletResponse generatedRequestId() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/42");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, EMPTY_CHAIN);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse inboundRequestId() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/42");
+        request.addHeader(REQUEST_UID_HEADER, Fixtures.REQUEST_ID);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, EMPTY_CHAIN);
+        return response;
+    }
+}
@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# Compares startup time and resident memory of the same application as a plain JVM run,
+# a JVM run with Spring AOT, and a GraalVM native executable (skipped when native-image is missing).
+#
+# Usage: benchmarks/startup/measure.sh [runs]    (build the library first: mvn install -DskipTests)
+set -euo pipefail
+
+RUNS="${1:-10}"
+DIR="$(cd "$(dirname "$0")" && pwd)"
+POM="$DIR/pom.xml"
+
+# Runs a command RUNS times and prints the median startup time and RSS
+measure() {
+    local label="$1"; shift
+    local times=() rss=()
+    for _ in $(seq "$RUNS"); do
+        local line
+        line="$("$@" 2>/dev/null | grep '^startup-report' | tail -1)"
+        times+=("$(sed -E 's/.*startup-ms=([0-9-]+).*/\1/' <<<"$line")")
+        rss+=("$(sed -E 's/.*rss-kb=([0-9-]+).*/\1/' <<<"$line")")
+    done
+    local median_time median_rss
+    median_time="$(printf '%s\n' "${times[@]}" | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}')"
+    median_rss="$(printf '%s\n' "${rss[@]}" | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}')"
+    printf '%-10s startup %6s ms   rss %8s KB   (median of %s runs)\n' "$label" "$median_time" "$median_rss" "$RUNS"
+}
+
+mvn -B -q -f "$POM" clean package -DskipTests
+measure "jvm" java -Dstartup.exit=true -jar "$DIR/target/startup.jar"
+
+# process-aot generates the bean definitions ahead of time; the jar then runs with -Dspring.aot.enabled
+mvn -B -q -f "$POM" -Pnative clean package -DskipTests
+measure "jvm-aot" java -Dspring.aot.enabled=true -Dstartup.exit=true -jar "$DIR/target/startup.jar"
+
+if command -v native-image >/dev/null 2>&1; then
+    mvn -B -q -f "$POM" -Pnative native:compile -DskipTests
+    measure "native" "$DIR/target/utility-startup" -Dstartup.exit=true
+else
+    echo "native     skipped: GraalVM native-image not found on PATH"
+fi
@@ -0,0 +1,61 @@
+package com.base.utility.startup;
+
+import com.base.utility.exception.response.ApiResponse;
+import com.base.utility.exception.type.ResourceNotFoundException;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+@SpringBootApplication
+@RestController
+public class StartupApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(StartupApplication.class, args);
+    }
+
+    @GetMapping("/users/{id}")
+    public ApiResponse<Map<String, Object>> user(@PathVariable String id) {
+        if (!"42".equals(id)) {
+            throw new ResourceNotFoundException("User", id);
+        }
+        return ApiResponse.success(Map.of("id", id, "name", "Jane Doe"));
+    }
+
+    // Prints one machine-readable line; with -Dstartup.exit=true the process stops right after
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        long startupMillis = ProcessHandle.current().info().startInstant()
+                .map(start -> Duration.between(start, Instant.now()).toMillis())
+                .orElse(-1L);
+        System.out.println("startup-report startup-ms=" + startupMillis + " rss-kb=" + residentSetKilobytes());
+        if (Boolean.getBoolean("startup.exit")) {
+            System.exit(0);
+        }
+    }
+
+    // Linux only; -1 elsewhere
+    private static long residentSetKilobytes() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D+", ""));
+                }
+            }
+        } catch (IOException | RuntimeException ex) {
+            // fall through
+        }
+        return -1;
+    }
+}
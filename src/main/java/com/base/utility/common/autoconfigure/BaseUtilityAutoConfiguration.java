@@ -1,15 +1,641 @@
 package com.base.utility.common.autoconfigure;
 
+import com.base.utility.common.bulk.BulkExecutor;
+import com.base.utility.common.bulk.BulkOptions;
+import com.base.utility.common.context.ContextPropagatingExecutorService;
+import com.base.utility.common.context.ContextPropagatingForkJoinPool;
+import com.base.utility.common.context.ContextPropagatingTaskDecorator;
+import com.base.utility.common.context.VirtualThreadExecutors;
+import com.base.utility.common.deadline.DeadlineDataSourcePostProcessor;
+import com.base.utility.common.deadline.RequestDeadlineFilter;
+import com.base.utility.common.envelope.ApiResponseWrappingAdvice;
+import com.base.utility.common.filters.RequestCorrelationFilter;
+import com.base.utility.common.idempotency.IdempotencyCache;
+import com.base.utility.common.idempotency.IdempotencyCacheMeterBinder;
+import com.base.utility.common.idempotency.IdempotencyFilter;
+import com.base.utility.common.jfr.FlightRecorderEvents;
+import com.base.utility.common.jfr.HandledExceptionEventResolver;
+import com.base.utility.common.limit.ConcurrencyLimitFilter;
+import com.base.utility.common.metrics.ErrorMetrics;
+import com.base.utility.common.metrics.RequestMetrics;
+import com.base.utility.common.metrics.UtilityMeterBinder;
+import com.base.utility.common.parsing.LimitedObjectMapper;
+import com.base.utility.common.parsing.RequestBodyLimitFilter;
+import com.base.utility.common.ratelimit.InMemoryRateLimitStore;
+import com.base.utility.common.ratelimit.PrincipalRateLimitKeyResolver;
+import com.base.utility.common.ratelimit.RateLimitFilter;
+import com.base.utility.common.ratelimit.RateLimitKeyResolver;
+import com.base.utility.common.ratelimit.RateLimitStore;
+import com.base.utility.common.reactive.ReactiveRequestCorrelationFilter;
+import com.base.utility.common.requestid.RandomUuidRequestIdGenerator;
+import com.base.utility.common.requestid.RequestIdGenerator;
+import com.base.utility.common.requestid.SecureUuidRequestIdGenerator;
+import com.base.utility.common.requestid.SnowflakeRequestIdGenerator;
+import com.base.utility.common.requestid.TimeOrderedUuidRequestIdGenerator;
+import com.base.utility.common.requestid.UlidRequestIdGenerator;
+import com.base.utility.common.resilience.BulkheadConfig;
+import com.base.utility.common.resilience.CircuitBreakerConfig;
+import com.base.utility.common.resilience.ResilienceAnnotationBeanPostProcessor;
+import com.base.utility.common.resilience.ResilienceMeterBinder;
+import com.base.utility.common.resilience.ResilienceRegistry;
+import com.base.utility.exception.catalog.ErrorCodeCatalog;
+import com.base.utility.exception.database.ConstraintMapping;
+import com.base.utility.exception.database.ConstraintViolationRegistry;
+import com.base.utility.exception.logging.ErrorLogGovernor;
+import com.base.utility.exception.reactive.ReactiveGlobalExceptionHandler;
+import com.base.utility.exception.type.StackTracePolicy;
 import com.base.utility.exception.utils.GlobalExceptionHandler;
+import com.base.utility.exception.utils.PreSerializedErrorConverter;
+import com.base.utility.exception.validation.ValidationDetailsLimits;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnJava;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
-@Configuration
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+
+// Boot's applicationTaskExecutor backs off when any Executor bean exists, so let it register before ours
+@AutoConfiguration(afterName = "org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration")
+@EnableConfigurationProperties(BaseUtilityProperties.class)
+@ImportRuntimeHints(BaseUtilityRuntimeHints.class)
 public class BaseUtilityAutoConfiguration {
+
+    public BaseUtilityAutoConfiguration(BaseUtilityProperties properties) {
+        BaseUtilityProperties.Exceptions exceptions = properties.getExceptions();
+        StackTracePolicy.configure(
+                exceptions.isStackless(),
+                exceptions.getStacklessCodes(),
+                exceptions.getFullStackTraceCodes(),
+                exceptions.getStackTraceSampleRate());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ConstraintViolationRegistry constraintViolationRegistry(BaseUtilityProperties properties) {
+        BaseUtilityProperties.Database database = properties.getDatabase();
+        ConstraintViolationRegistry registry = new ConstraintViolationRegistry();
+        database.getSqlStates().forEach((sqlState, mapping) ->
+                registry.registerSqlState(sqlState, toMapping(mapping)));
+        database.getVendorCodes().forEach((vendorCode, mapping) ->
+                registry.registerVendorCode(vendorCode, toMapping(mapping)));
+        database.getConstraints().forEach((constraintName, mapping) ->
+                registry.registerConstraint(constraintName, toMapping(mapping)));
+        return registry;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "base.utility.error-logging", name = "governed", matchIfMissing = true)
+    public ErrorLogGovernor errorLogGovernor(BaseUtilityProperties properties) {
+        BaseUtilityProperties.ErrorLogging logging = properties.getErrorLogging();
+        return new ErrorLogGovernor(
+                logging.getWindow(),
+                logging.getDefaultLimit(),
+                logging.getCategoryLimits(),
+                logging.getFingerprintFrames(),
+                logging.getMaxFingerprints(),
+                logging.getSampleRequestIds());
+    }
+
     @Bean
-    @ConditionalOnMissingBean(GlobalExceptionHandler.class)
-    public GlobalExceptionHandler globalExceptionHandler() {
-        return new GlobalExceptionHandler();
+    @ConditionalOnMissingBean(RequestIdGenerator.class)
+    public RequestIdGenerator requestIdGenerator(BaseUtilityProperties properties) {
+        BaseUtilityProperties.RequestId requestId = properties.getRequestId();
+        return switch (requestId.getGenerator()) {
+            case SECURE_UUID -> new SecureUuidRequestIdGenerator();
+            case UUID_V4 -> new RandomUuidRequestIdGenerator();
+            case UUID_V7 -> new TimeOrderedUuidRequestIdGenerator();
+            case ULID -> new UlidRequestIdGenerator();
+            case SNOWFLAKE -> new SnowflakeRequestIdGenerator(snowflakeNodeId(requestId));
+        };
+    }
+
+    // A random node id would let two instances issue the same ids, so it has to be configured
+    private static int snowflakeNodeId(BaseUtilityProperties.RequestId requestId) {
+        if (requestId.getNodeId() == null) {
+            throw new IllegalStateException("base.utility.request-id.node-id must be set, unique per instance, "
+                    + "when the SNOWFLAKE generator is used");
+        }
+        return requestId.getNodeId();
+    }
+
+    private static ConstraintMapping toMapping(BaseUtilityProperties.ConstraintMappingProperties properties) {
+        return new ConstraintMapping(properties.getErrorCode(), properties.getMessage());
+    }
+
+    private static ValidationDetailsLimits validationLimits(BaseUtilityProperties properties) {
+        BaseUtilityProperties.Validation validation = properties.getExceptions().getValidation();
+        return new ValidationDetailsLimits(
+                validation.getMaxErrors(),
+                validation.getMaxRejectedValueLength(),
+                validation.getMaxDepth(),
+                validation.getMaxCollectionSize(),
+                validation.isIncludeRejectedValues());
+    }
+
+    // Fails startup on overlapping ranges, codes outside every range and translations of unknown codes
+    @Bean
+    @ConditionalOnMissingBean
+    public ErrorCodeCatalog errorCodeCatalog(BaseUtilityProperties properties) {
+        BaseUtilityProperties.ErrorCatalog catalog = properties.getErrorCatalog();
+        ErrorCodeCatalog.Builder builder = ErrorCodeCatalog.builder().defaultLocale(catalog.getDefaultLocale());
+        catalog.getRanges().forEach((name, range) -> builder.range(name, range.getFrom(), range.getTo()));
+        catalog.getCodes().forEach(builder::code);
+        catalog.getMessages().forEach((languageTag, templates) -> {
+            Locale locale = Locale.forLanguageTag(languageTag);
+            templates.forEach((code, template) -> builder.message(locale, code, template));
+        });
+        return builder.build();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ServletConfiguration {
+        @Bean
+        @ConditionalOnMissingBean(GlobalExceptionHandler.class)
+        public GlobalExceptionHandler globalExceptionHandler(ObjectProvider<ErrorMetrics> errorMetrics,
+                                                             ObjectProvider<ErrorLogGovernor> logGovernor,
+                                                             ObjectProvider<ConstraintViolationRegistry> constraintViolationRegistry,
+                                                             ObjectProvider<ErrorCodeCatalog> errorCodeCatalog,
+                                                             BaseUtilityProperties properties) {
+            return new GlobalExceptionHandler(
+                    errorMetrics.getIfAvailable(),
+                    logGovernor.getIfAvailable(),
+                    constraintViolationRegistry.getIfAvailable(),
+                    validationLimits(properties),
+                    errorCodeCatalog.getIfAvailable());
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(name = "requestCorrelationFilter")
+        public FilterRegistrationBean<RequestCorrelationFilter> requestCorrelationFilter(RequestIdGenerator requestIdGenerator,
+                                                                                         BaseUtilityProperties properties,
+                                                                                         ObjectProvider<RequestMetrics> requestMetrics,
+                                                                                         ObjectProvider<FlightRecorderEvents> flightRecorderEvents) {
+            FilterRegistrationBean<RequestCorrelationFilter> registration = new FilterRegistrationBean<>(
+                    new RequestCorrelationFilter(requestIdGenerator, properties.getRequestId(),
+                            requestMetrics.getIfAvailable(), flightRecorderEvents.getIfAvailable()));
+            // First, so every other filter and all error responses see the request id
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+            return registration;
+        }
+
+        @Bean
+        public WebMvcConfigurer preSerializedErrorConverterConfigurer() {
+            return new WebMvcConfigurer() {
+                @Override
+                public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                    ObjectMapper objectMapper = converters.stream()
+                            .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+                            .map(converter -> ((MappingJackson2HttpMessageConverter) converter).getObjectMapper())
+                            .findFirst()
+                            .orElse(null);
+                    // Otherwise Jackson writes pre-serialized error bodies too, in the application's format
+                    if (objectMapper == null || PreSerializedErrorConverter.matches(objectMapper)) {
+                        // Must precede the Jackson converter so pre-serialized error bodies skip it for JSON
+                        converters.add(0, new PreSerializedErrorConverter());
+                    }
+                }
+            };
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "base.utility.response-envelope", name = "enabled", matchIfMissing = true)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ResponseEnvelopeConfiguration {
+        @Bean
+        @ConditionalOnMissingBean
+        public ApiResponseWrappingAdvice apiResponseWrappingAdvice() {
+            return new ApiResponseWrappingAdvice();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class ReactiveConfiguration {
+        @Bean
+        @ConditionalOnMissingBean
+        public ReactiveRequestCorrelationFilter reactiveRequestCorrelationFilter(RequestIdGenerator requestIdGenerator,
+                                                                                 BaseUtilityProperties properties,
+                                                                                 ObjectProvider<RequestMetrics> requestMetrics) {
+            return new ReactiveRequestCorrelationFilter(
+                    requestIdGenerator, properties.getRequestId(), requestMetrics.getIfAvailable());
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public ReactiveGlobalExceptionHandler reactiveGlobalExceptionHandler(ObjectProvider<ObjectMapper> objectMapper,
+                                                                             ObjectProvider<ErrorMetrics> errorMetrics,
+                                                                             ObjectProvider<ErrorLogGovernor> logGovernor,
+                                                                             ObjectProvider<ConstraintViolationRegistry> constraintViolationRegistry,
+                                                                             ObjectProvider<ErrorCodeCatalog> errorCodeCatalog,
+                                                                             ObjectProvider<FlightRecorderEvents> flightRecorderEvents,
+                                                                             BaseUtilityProperties properties) {
+            return new ReactiveGlobalExceptionHandler(
+                    objectMapper.getIfAvailable(() -> new ObjectMapper().findAndRegisterModules()),
+                    errorMetrics.getIfAvailable(),
+                    logGovernor.getIfAvailable(),
+                    constraintViolationRegistry.getIfAvailable(),
+                    validationLimits(properties),
+                    errorCodeCatalog.getIfAvailable(),
+                    flightRecorderEvents.getIfAvailable());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "base.utility.metrics", name = "enabled", matchIfMissing = true)
+    static class MetricsConfiguration {
+        @Bean
+        @ConditionalOnMissingBean
+        public ErrorMetrics errorMetrics() {
+            return new ErrorMetrics();
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public RequestMetrics requestMetrics(BaseUtilityProperties properties) {
+            return new RequestMetrics(properties.getMetrics().getMaxRoutes(),
+                    properties.getMetrics().getPercentileWindow());
+        }
+
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+        static class MicrometerConfiguration {
+            @Bean
+            public UtilityMeterBinder utilityMeterBinder(ErrorMetrics errorMetrics, RequestMetrics requestMetrics) {
+                return new UtilityMeterBinder(errorMetrics, requestMetrics);
+            }
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class ResilienceConfiguration {
+        @Bean
+        @ConditionalOnMissingBean
+        public ResilienceRegistry resilienceRegistry(BaseUtilityProperties properties) {
+            BaseUtilityProperties.Resilience resilience = properties.getResilience();
+            return new ResilienceRegistry(
+                    name -> toConfig(resilience.getCircuitBreakers().getOrDefault(name, resilience.getCircuitBreaker())),
+                    name -> toConfig(resilience.getBulkheads().getOrDefault(name, resilience.getBulkhead())));
+        }
+
+        // Static and lazy so that post-processor registration does not initialize the registry early
+        @Bean
+        @ConditionalOnProperty(prefix = "base.utility.resilience", name = "annotations", matchIfMissing = true)
+        public static ResilienceAnnotationBeanPostProcessor resilienceAnnotationBeanPostProcessor(
+                ObjectProvider<ResilienceRegistry> resilienceRegistry) {
+            return new ResilienceAnnotationBeanPostProcessor(resilienceRegistry::getObject);
+        }
+
+        private static CircuitBreakerConfig toConfig(BaseUtilityProperties.CircuitBreakerSettings settings) {
+            return new CircuitBreakerConfig(
+                    settings.getFailureRateThreshold(),
+                    settings.getSlowCallRateThreshold(),
+                    settings.getSlowCallDuration(),
+                    settings.getMinimumCalls(),
+                    settings.getWindow(),
+                    settings.getWindowBuckets(),
+                    settings.getOpenDuration(),
+                    settings.getHalfOpenCalls(),
+                    CircuitBreakerConfig.DEFAULT_RECORD_FAILURE);
+        }
+
+        private static BulkheadConfig toConfig(BaseUtilityProperties.BulkheadSettings settings) {
+            return new BulkheadConfig(settings.getMaxConcurrentCalls(), settings.getMaxWait());
+        }
+
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+        static class ResilienceMetricsConfiguration {
+            @Bean
+            public ResilienceMeterBinder resilienceMeterBinder(ResilienceRegistry resilienceRegistry) {
+                return new ResilienceMeterBinder(resilienceRegistry);
+            }
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "base.utility.bulk", name = "enabled", matchIfMissing = true)
+    static class BulkConfiguration {
+        // Closed with the context, which shuts down the pool it owns
+        @Bean
+        @ConditionalOnMissingBean
+        public BulkExecutor bulkExecutor(BaseUtilityProperties properties) {
+            BaseUtilityProperties.Bulk bulk = properties.getBulk();
+            int parallelism = bulk.getParallelism() != null
+                    ? bulk.getParallelism()
+                    : Runtime.getRuntime().availableProcessors();
+            BulkOptions options = new BulkOptions(
+                    bulk.getBatchSize(), parallelism, bulk.getMaxErrors(), bulk.isIncludeResults());
+            if (bulk.getExecutor() == BaseUtilityProperties.Bulk.Executor.VIRTUAL_THREADS
+                    && VirtualThreadExecutors.isSupported()) {
+                return BulkExecutor.virtualThreads(options);
+            }
+            return BulkExecutor.forkJoin(parallelism, options);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "base.utility.flight-recorder", name = "enabled", matchIfMissing = true)
+    @ConditionalOnClass(name = "jdk.jfr.FlightRecorder")
+    @ConditionalOnWebApplication
+    static class FlightRecorderConfiguration {
+        @Bean
+        @ConditionalOnMissingBean
+        public FlightRecorderEvents flightRecorderEvents(BaseUtilityProperties properties) {
+            BaseUtilityProperties.FlightRecorder flightRecorder = properties.getFlightRecorder();
+            return new FlightRecorderEvents(flightRecorder.getRequestThreshold(), flightRecorder.getExceptionThreshold());
+        }
+
+        @Bean
+        @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+        public WebMvcConfigurer handledExceptionEventConfigurer(FlightRecorderEvents flightRecorderEvents) {
+            return new WebMvcConfigurer() {
+                @Override
+                public void extendHandlerExceptionResolvers(List<HandlerExceptionResolver> resolvers) {
+                    // Ahead of ExceptionHandlerExceptionResolver so the event covers handler resolution
+                    resolvers.add(0, new HandledExceptionEventResolver(flightRecorderEvents));
+                }
+            };
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "base.utility.request-parsing", name = "enabled", matchIfMissing = true)
+    static class RequestParsingConfiguration {
+        // Spring MVC gets copies of its Jackson converters; the converter beans, which RestTemplate shares,
+        // and the application's ObjectMapper stay unlimited
+        @Bean
+        @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+        public WebMvcConfigurer parsingLimitsConfigurer(BaseUtilityProperties properties) {
+            BaseUtilityProperties.RequestParsing parsing = properties.getRequestParsing();
+            StreamReadConstraints constraints = readConstraints(parsing);
+            return new WebMvcConfigurer() {
+                @Override
+                public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                    converters.replaceAll(converter -> limited(converter, constraints, parsing.getMaxArrayElements()));
+                }
+            };
+        }
+
+        @Bean
+        @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+        public FilterRegistrationBean<RequestBodyLimitFilter> requestBodyLimitFilter(BaseUtilityProperties properties) {
+            FilterRegistrationBean<RequestBodyLimitFilter> registration = new FilterRegistrationBean<>(
+                    new RequestBodyLimitFilter(properties.getRequestParsing().getMaxBodySize()));
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+            return registration;
+        }
+
+        private static StreamReadConstraints readConstraints(BaseUtilityProperties.RequestParsing parsing) {
+            return StreamReadConstraints.builder()
+                    .maxNestingDepth(parsing.getMaxNestingDepth())
+                    .maxStringLength(parsing.getMaxStringLength())
+                    .maxNumberLength(parsing.getMaxNumberLength())
+                    .build();
+        }
+
+        // Other converters, including subclasses of these, are left alone
+        private static HttpMessageConverter<?> limited(HttpMessageConverter<?> converter,
+                                                       StreamReadConstraints constraints, int maxArrayElements) {
+            if (!(converter instanceof AbstractJackson2HttpMessageConverter jackson)) {
+                return converter;
+            }
+            ObjectMapper objectMapper = new LimitedObjectMapper(jackson.getObjectMapper(), constraints, maxArrayElements);
+            AbstractJackson2HttpMessageConverter limited;
+            if (converter.getClass() == MappingJackson2HttpMessageConverter.class) {
+                limited = new MappingJackson2HttpMessageConverter(objectMapper);
+            } else if (converter.getClass() == MappingJackson2SmileHttpMessageConverter.class) {
+                limited = new MappingJackson2SmileHttpMessageConverter(objectMapper);
+            } else if (converter.getClass() == MappingJackson2CborHttpMessageConverter.class) {
+                limited = new MappingJackson2CborHttpMessageConverter(objectMapper);
+            } else {
+                return converter;
+            }
+            limited.setSupportedMediaTypes(jackson.getSupportedMediaTypes());
+            return limited;
+        }
+
+        // Ordered after Spring Boot's configurer, whose codec customizers install the application's ObjectMapper
+        // for both the server and WebClient; only the server's decoder is replaced
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+        static class ReactiveParsingConfiguration {
+            @Bean
+            public WebFluxConfigurer parsingLimitsCodecConfigurer(ObjectProvider<ObjectMapper> objectMapper,
+                                                                  BaseUtilityProperties properties) {
+                BaseUtilityProperties.RequestParsing parsing = properties.getRequestParsing();
+                StreamReadConstraints constraints = readConstraints(parsing);
+                return new WebFluxConfigurer() {
+                    @Override
+                    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+                        objectMapper.ifAvailable(mapper -> configurer.defaultCodecs().jackson2JsonDecoder(
+                                new Jackson2JsonDecoder(new LimitedObjectMapper(mapper, constraints,
+                                        parsing.getMaxArrayElements()))));
+                    }
+                };
+            }
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "base.utility.deadline", name = "enabled", matchIfMissing = true)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class DeadlineConfiguration {
+        @Bean
+        public FilterRegistrationBean<RequestDeadlineFilter> requestDeadlineFilter(BaseUtilityProperties properties) {
+            FilterRegistrationBean<RequestDeadlineFilter> registration =
+                    new FilterRegistrationBean<>(new RequestDeadlineFilter(properties.getDeadline()));
+            // Right after RequestCorrelationFilter so rejections still carry a request id
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+            return registration;
+        }
+
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnClass(name = "org.springframework.jdbc.datasource.DelegatingDataSource")
+        @ConditionalOnProperty(prefix = "base.utility.deadline", name = "jdbc", havingValue = "true")
+        static class JdbcDeadlineConfiguration {
+            @Bean
+            public static DeadlineDataSourcePostProcessor deadlineDataSourcePostProcessor() {
+                return new DeadlineDataSourcePostProcessor();
+            }
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "base.utility.concurrency-limit", name = "enabled")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ConcurrencyLimitConfiguration {
+        @Bean
+        public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(BaseUtilityProperties properties) {
+            FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                    new FilterRegistrationBean<>(new ConcurrencyLimitFilter(properties.getConcurrencyLimit()));
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+            return registration;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "base.utility.rate-limit", name = "enabled")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class RateLimitConfiguration {
+        @Bean
+        @ConditionalOnMissingBean(RateLimitStore.class)
+        public InMemoryRateLimitStore rateLimitStore(BaseUtilityProperties properties) {
+            BaseUtilityProperties.RateLimit rateLimit = properties.getRateLimit();
+            return new InMemoryRateLimitStore(rateLimit.getStripes(), rateLimit.getMaxEntries());
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(RateLimitKeyResolver.class)
+        public PrincipalRateLimitKeyResolver rateLimitKeyResolver() {
+            return new PrincipalRateLimitKeyResolver();
+        }
+
+        @Bean
+        public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimitStore rateLimitStore,
+                                                                       RateLimitKeyResolver rateLimitKeyResolver,
+                                                                       BaseUtilityProperties properties) {
+            FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+                    new RateLimitFilter(rateLimitStore, rateLimitKeyResolver, properties.getRateLimit()));
+            // After Spring Security so quotas are per authenticated principal rather than per address,
+            // and before idempotency so rejected requests never occupy an idempotency key
+            registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 5);
+            return registration;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "base.utility.idempotency", name = "enabled", havingValue = "true")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class IdempotencyConfiguration {
+        @Bean
+        @ConditionalOnMissingBean(IdempotencyCache.class)
+        public IdempotencyCache idempotencyCache(BaseUtilityProperties properties) {
+            BaseUtilityProperties.Idempotency idempotency = properties.getIdempotency();
+            return new IdempotencyCache(idempotency.getSegments(), idempotency.getMaxEntries(),
+                    idempotency.getMaxBytes(), idempotency.getTtl());
+        }
+
+        @Bean
+        public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyCache idempotencyCache,
+                                                                           BaseUtilityProperties properties) {
+            FilterRegistrationBean<IdempotencyFilter> registration =
+                    new FilterRegistrationBean<>(new IdempotencyFilter(idempotencyCache, properties.getIdempotency()));
+            // After the limiters so rejected requests never occupy an idempotency key, and after
+            // Spring Security so keys are scoped to the authenticated principal
+            registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 10);
+            return registration;
+        }
+
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+        static class IdempotencyMetricsConfiguration {
+            @Bean
+            public IdempotencyCacheMeterBinder idempotencyCacheMeterBinder(IdempotencyCache idempotencyCache) {
+                return new IdempotencyCacheMeterBinder(idempotencyCache);
+            }
+        }
+    }
+
+    // Spring MVC already lists Smile and CBOR converters after JSON when the modules are present; these beans
+    // replace them in place so they share the application's Jackson configuration and the shared-name tables
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "com.fasterxml.jackson.dataformat.smile.SmileFactory")
+    @ConditionalOnProperty(prefix = "base.utility.binary-formats", name = "smile", matchIfMissing = true)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class SmileConfiguration {
+        @Bean
+        @ConditionalOnMissingBean
+        public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+                ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder, BaseUtilityProperties properties) {
+            SmileFactory factory = SmileFactory.builder()
+                    .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                    .configure(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES,
+                            properties.getBinaryFormats().isSmileSharedStringValues())
+                    .build();
+            return new MappingJackson2SmileHttpMessageConverter(
+                    objectMapperBuilder.getIfAvailable(Jackson2ObjectMapperBuilder::smile).factory(factory).build());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "com.fasterxml.jackson.dataformat.cbor.CBORFactory")
+    @ConditionalOnProperty(prefix = "base.utility.binary-formats", name = "cbor", matchIfMissing = true)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class CborConfiguration {
+        @Bean
+        @ConditionalOnMissingBean
+        public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+                ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder, BaseUtilityProperties properties) {
+            CBORFactory factory = CBORFactory.builder()
+                    .configure(CBORGenerator.Feature.STRINGREF, properties.getBinaryFormats().isCborStringRefs())
+                    .build();
+            return new MappingJackson2CborHttpMessageConverter(
+                    objectMapperBuilder.getIfAvailable(Jackson2ObjectMapperBuilder::cbor).factory(factory).build());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "base.utility.context-propagation", name = "enabled", matchIfMissing = true)
+    static class ContextPropagationConfiguration {
+        // Picked up by Spring Boot's task execution auto-configuration for the @Async executor
+        @Bean
+        @ConditionalOnMissingBean(TaskDecorator.class)
+        public ContextPropagatingTaskDecorator contextPropagatingTaskDecorator() {
+            return new ContextPropagatingTaskDecorator();
+        }
+
+        @Bean(name = "contextForkJoinPool", destroyMethod = "shutdown")
+        @ConditionalOnMissingBean(name = "contextForkJoinPool")
+        @ConditionalOnProperty(prefix = "base.utility.context-propagation", name = "fork-join-pool", havingValue = "true")
+        public ContextPropagatingForkJoinPool contextForkJoinPool(BaseUtilityProperties properties) {
+            Integer parallelism = properties.getContextPropagation().getForkJoinParallelism();
+            return new ContextPropagatingForkJoinPool(
+                    parallelism != null ? parallelism : Runtime.getRuntime().availableProcessors());
+        }
+
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnJava(JavaVersion.TWENTY_ONE)
+        @ConditionalOnProperty(prefix = "base.utility.context-propagation", name = "virtual-threads", havingValue = "true")
+        static class VirtualThreadConfiguration {
+            @Bean(name = "virtualThreadExecutor", destroyMethod = "shutdown")
+            @ConditionalOnMissingBean(name = "virtualThreadExecutor")
+            public ExecutorService virtualThreadExecutor() {
+                return new ContextPropagatingExecutorService(VirtualThreadExecutors.newVirtualThreadPerTaskExecutor());
+            }
+        }
     }
 }
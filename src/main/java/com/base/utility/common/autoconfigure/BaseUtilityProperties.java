@@ -1,4 +1,317 @@
 package com.base.utility.common.autoconfigure;
 
+import com.base.utility.exception.utils.ErrorCategory;
+import com.base.utility.exception.utils.ErrorCode;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+@Data
+@ConfigurationProperties(prefix = "base.utility")
 public class BaseUtilityProperties {
+    private Exceptions exceptions = new Exceptions();
+    private RequestId requestId = new RequestId();
+    private Metrics metrics = new Metrics();
+    private ErrorLogging errorLogging = new ErrorLogging();
+    private Database database = new Database();
+    private Deadline deadline = new Deadline();
+    private ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+    private RateLimit rateLimit = new RateLimit();
+    private Idempotency idempotency = new Idempotency();
+    private BinaryFormats binaryFormats = new BinaryFormats();
+    private ContextPropagation contextPropagation = new ContextPropagation();
+    private FlightRecorder flightRecorder = new FlightRecorder();
+    private Resilience resilience = new Resilience();
+    private Bulk bulk = new Bulk();
+    private ResponseEnvelope responseEnvelope = new ResponseEnvelope();
+    private RequestParsing requestParsing = new RequestParsing();
+    private ErrorCatalog errorCatalog = new ErrorCatalog();
+
+    @Data
+    public static class Exceptions {
+        // Skip fillInStackTrace for every BusinessException unless overridden per code
+        private boolean stackless = false;
+        // Codes that are always thrown without a stack trace
+        private Set<ErrorCode> stacklessCodes = EnumSet.noneOf(ErrorCode.class);
+        // Codes that always keep their stack trace, even when stackless is enabled globally
+        private Set<ErrorCode> fullStackTraceCodes = EnumSet.noneOf(ErrorCode.class);
+        // Fraction (0.0 - 1.0) of stackless occurrences that still capture a full stack trace
+        private double stackTraceSampleRate = 0.0;
+        private Validation validation = new Validation();
+    }
+
+    @Data
+    public static class Validation {
+        // Field errors listed in a response; the rest are only counted
+        private int maxErrors = 100;
+        // Longer rejected strings are truncated
+        private int maxRejectedValueLength = 256;
+        // Levels of nested collections and maps rendered in a rejected value
+        private int maxDepth = 3;
+        private int maxCollectionSize = 20;
+        private boolean includeRejectedValues = true;
+    }
+
+    @Data
+    public static class RequestId {
+        private Generator generator = Generator.UUID_V4;
+        // Snowflake node id (0-1023), unique per instance; required by the SNOWFLAKE generator
+        private Integer nodeId;
+        // Inbound X-Request-ID values longer than this are truncated
+        private int maxLength = 64;
+        // Inbound values containing characters outside [A-Za-z0-9._:-] are replaced with a generated id
+        private boolean validateInbound = true;
+
+        public enum Generator {
+            SECURE_UUID, UUID_V4, UUID_V7, ULID, SNOWFLAKE
+        }
+    }
+
+    @Data
+    public static class Metrics {
+        private boolean enabled = true;
+        // Routes beyond this many distinct patterns share a single "OTHER" histogram
+        private int maxRoutes = 256;
+        // Period covered by the published latency percentiles and maximum; counts and totals are cumulative
+        private Duration percentileWindow = Duration.ofMinutes(2);
+    }
+
+    @Data
+    public static class ErrorLogging {
+        // Log every occurrence when disabled
+        private boolean governed = true;
+        private Duration window = Duration.ofMinutes(1);
+        // Occurrences per fingerprint logged in full per window; negative means unlimited
+        private int defaultLimit = 10;
+        private Map<ErrorCategory, Integer> categoryLimits = new EnumMap<>(ErrorCategory.class);
+        // Stack frames included in the fingerprint, in addition to the exception class and error code; they are
+        // only read once the class and error code pair has exceeded its limit
+        private int fingerprintFrames = 3;
+        // Distinct fingerprints tracked before they share one window per category
+        private int maxFingerprints = 1024;
+        private int sampleRequestIds = 5;
+    }
+
+    @Data
+    public static class Database {
+        // Keyed by constraint name, e.g. uk_user_email -> DUPLICATE_EMAIL
+        private Map<String, ConstraintMappingProperties> constraints = new HashMap<>();
+        private Map<String, ConstraintMappingProperties> sqlStates = new HashMap<>();
+        private Map<Integer, ConstraintMappingProperties> vendorCodes = new HashMap<>();
+    }
+
+    @Data
+    public static class ConstraintMappingProperties {
+        private ErrorCode errorCode = ErrorCode.CONSTRAINT_VIOLATION;
+        // Defaults to the error code's message
+        private String message;
+    }
+
+    @Data
+    public static class Deadline {
+        private boolean enabled = true;
+        // Milliseconds the caller is still willing to wait
+        private String timeoutHeader = "X-Request-Timeout";
+        // Absolute deadline in epoch milliseconds; ignored when the timeout header is present
+        private String deadlineHeader = "X-Request-Deadline";
+        // Budget for requests without either header; no deadline when unset
+        private Duration defaultTimeout;
+        // Upper bound for any budget, including client-supplied ones
+        private Duration maxTimeout;
+        // Apply the remaining budget as JDBC query timeouts by proxying DataSource beans
+        private boolean jdbc = false;
+    }
+
+    @Data
+    public static class ConcurrencyLimitSettings {
+        private int initialLimit = 20;
+        private int minLimit = 5;
+        private int maxLimit = 1000;
+        // Growth allowance per window while latency is stable
+        private int queueSize = 4;
+        // Weight of each new estimate in the limit (0.0 - 1.0)
+        private double smoothing = 0.2;
+        // A window closes after this many samples or this much time, whichever comes first
+        private int windowSize = 100;
+        private Duration window = Duration.ofSeconds(1);
+        // Number of windows averaged into the baseline latency
+        private int longWindow = 600;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class ConcurrencyLimit extends ConcurrencyLimitSettings {
+        private boolean enabled = false;
+        private Duration retryAfter = Duration.ofSeconds(1);
+        // Route groups with their own limiter, checked in declaration order; the rest share the default
+        private Map<String, ConcurrencyLimitGroup> groups = new LinkedHashMap<>();
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class ConcurrencyLimitGroup extends ConcurrencyLimitSettings {
+        // Ant-style patterns matched against the path without the context path, e.g. /api/exports/**
+        private List<String> pathPatterns = new ArrayList<>();
+    }
+
+    @Data
+    public static class RateLimit {
+        private boolean enabled = false;
+        // Requests allowed per period per client, which is also the maximum burst
+        private long capacity = 100;
+        private Duration period = Duration.ofMinutes(1);
+        // In-memory store sizing
+        private int stripes = 64;
+        private int maxEntries = 1_000_000;
+    }
+
+    @Data
+    public static class Idempotency {
+        private boolean enabled = false;
+        private String keyHeader = "Idempotency-Key";
+        private List<String> methods = new ArrayList<>(List.of("POST", "PATCH"));
+        private Duration ttl = Duration.ofHours(24);
+        // Cache budgets; least recently used responses are dropped first
+        private int maxEntries = 10_000;
+        private long maxBytes = 64L * 1024 * 1024;
+        // Larger request or response bodies are processed without idempotency guarantees
+        private int maxBodyBytes = 1024 * 1024;
+        // How long a retry waits for the original request before answering 409
+        private Duration waitTimeout = Duration.ofSeconds(10);
+        private int segments = 16;
+    }
+
+    @Data
+    public static class BinaryFormats {
+        // Registered only when the matching jackson-dataformat module is on the classpath
+        private boolean smile = true;
+        private boolean cbor = true;
+        // Back-references for repeated string values as well as field names; costs some encoding CPU
+        private boolean smileSharedStringValues = false;
+        // CBOR stringref tags (tag 256) for repeated names and values; only enable when every peer can decode them
+        private boolean cborStringRefs = false;
+    }
+
+    @Data
+    public static class ContextPropagation {
+        // Registers a TaskDecorator that carries the request id and deadline into @Async and executor tasks
+        private boolean enabled = true;
+        // Opt-in "virtualThreadExecutor" bean; only created on JDK 21+
+        private boolean virtualThreads = false;
+        // Opt-in "contextForkJoinPool" bean for parallel fan-out
+        private boolean forkJoinPool = false;
+        // Defaults to the number of available processors
+        private Integer forkJoinParallelism;
+    }
+
+    @Data
+    public static class FlightRecorder {
+        // Emits JFR events while a recording has them enabled; costs a flag check otherwise
+        private boolean enabled = true;
+        // Faster requests are not recorded; the recording's own #threshold setting applies as well
+        private Duration requestThreshold = Duration.ofMillis(20);
+        private Duration exceptionThreshold = Duration.ZERO;
+    }
+
+    @Data
+    public static class Resilience {
+        // Proxies beans annotated with @UseCircuitBreaker or @UseBulkhead
+        private boolean annotations = true;
+        private CircuitBreakerSettings circuitBreaker = new CircuitBreakerSettings();
+        // Per-name settings; names not listed here use circuit-breaker
+        private Map<String, CircuitBreakerSettings> circuitBreakers = new HashMap<>();
+        private BulkheadSettings bulkhead = new BulkheadSettings();
+        private Map<String, BulkheadSettings> bulkheads = new HashMap<>();
+    }
+
+    @Data
+    public static class CircuitBreakerSettings {
+        private double failureRateThreshold = 0.5;
+        private double slowCallRateThreshold = 1.0;
+        private Duration slowCallDuration = Duration.ofSeconds(5);
+        // Calls needed within the window before the rates are evaluated
+        private int minimumCalls = 20;
+        private Duration window = Duration.ofSeconds(10);
+        private int windowBuckets = 10;
+        private Duration openDuration = Duration.ofSeconds(30);
+        // Trial calls let through while half-open; all must succeed to close the circuit
+        private int halfOpenCalls = 5;
+    }
+
+    @Data
+    public static class BulkheadSettings {
+        private int maxConcurrentCalls = 25;
+        // Zero rejects immediately when the bulkhead is full
+        private Duration maxWait = Duration.ZERO;
+    }
+
+    @Data
+    public static class Bulk {
+        // Registers a "bulkExecutor" bean backed by its own pool
+        private boolean enabled = true;
+        // VIRTUAL_THREADS falls back to FORK_JOIN before JDK 21
+        private Executor executor = Executor.FORK_JOIN;
+        // Workers per bulk call, and the pool size for FORK_JOIN; defaults to the number of available processors
+        private Integer parallelism;
+        private int batchSize = 50;
+        // Failures listed in a response; the rest are only counted
+        private int maxErrors = 100;
+        private boolean includeResults = true;
+
+        public enum Executor {
+            FORK_JOIN, VIRTUAL_THREADS
+        }
+    }
+
+    @Data
+    public static class ResponseEnvelope {
+        // Wraps return values of @WrapApiResponse controllers; unannotated controllers are never affected
+        private boolean enabled = true;
+    }
+
+    @Data
+    public static class RequestParsing {
+        // Applied to request bodies read by Spring MVC and WebFlux and, for servlet apps, to the body stream itself.
+        // The defaults are Jackson's own, with the body size and array caps off, so enabling it changes nothing
+        private boolean enabled = true;
+        // Checked against Content-Length before reading and against the bytes actually read; negative disables it
+        private long maxBodySize = -1;
+        private int maxNestingDepth = StreamReadConstraints.DEFAULT_MAX_DEPTH;
+        // In characters
+        private int maxStringLength = StreamReadConstraints.DEFAULT_MAX_STRING_LEN;
+        // In digits, for both integers and decimals
+        private int maxNumberLength = StreamReadConstraints.DEFAULT_MAX_NUM_LEN;
+        // Elements of any single array, nested ones included; negative disables it
+        private int maxArrayElements = -1;
+    }
+
+    @Data
+    public static class ErrorCatalog {
+        // Application ranges, e.g. PAYMENT: {from: 7000, to: 7999}; must not overlap each other or the built-in categories
+        private Map<String, ErrorCodeRangeProperties> ranges = new LinkedHashMap<>();
+        // Application codes and their default messages, e.g. ERR_7000: Card was declined
+        private Map<String, String> codes = new LinkedHashMap<>();
+        // Translations keyed by language tag, then code, e.g. de: {ERR_3000: "{resource} '{identifier}' nicht gefunden"}
+        private Map<String, Map<String, String>> messages = new LinkedHashMap<>();
+        // Language of the untranslated messages; clients preferring it get those
+        private Locale defaultLocale = Locale.ENGLISH;
+    }
+
+    @Data
+    public static class ErrorCodeRangeProperties {
+        private int from;
+        private int to;
+    }
 }
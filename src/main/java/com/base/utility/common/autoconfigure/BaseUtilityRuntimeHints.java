@@ -0,0 +1,58 @@
+package com.base.utility.common.autoconfigure;
+
+import com.base.utility.common.bulk.BulkItem;
+import com.base.utility.common.bulk.MultiStatusBody;
+import com.base.utility.common.deadline.DeadlineExceededException;
+import com.base.utility.exception.response.ApiResponse;
+import com.base.utility.exception.response.ErrorDetail;
+import com.base.utility.exception.response.MetaData;
+import com.base.utility.exception.response.PreSerializedErrorResponse;
+import com.base.utility.exception.type.BusinessException;
+import com.base.utility.exception.type.DuplicateResourceException;
+import com.base.utility.exception.type.ResourceNotFoundException;
+import com.base.utility.exception.type.ValidationException;
+import com.base.utility.exception.utils.ErrorCode;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+/**
+ * Reflection and proxy metadata for Spring AOT and GraalVM native images. Types that are only reached
+ * through Jackson or a JDK proxy are invisible to the static analysis and need to be listed here.
+ */
+class BaseUtilityRuntimeHints implements RuntimeHintsRegistrar {
+    private static final Class<?>[] RESPONSE_TYPES = {
+            ApiResponse.class, ErrorDetail.class, MetaData.class, PreSerializedErrorResponse.class,
+            MultiStatusBody.class, BulkItem.class
+    };
+    private static final Class<?>[] EXCEPTION_TYPES = {
+            BusinessException.class, ResourceNotFoundException.class, DuplicateResourceException.class,
+            ValidationException.class, DeadlineExceededException.class
+    };
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Serialized and deserialized by Jackson, including nested property types
+        bindingRegistrar.registerReflectionHints(hints.reflection(), RESPONSE_TYPES);
+        hints.reflection().registerType(ErrorCode.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        // Getters are read when exceptions end up in logs or in custom error serializers
+        for (Class<?> type : EXCEPTION_TYPES) {
+            hints.reflection().registerType(type,
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        // DeadlineAwareDataSource wraps pooled connections in a JDK proxy
+        hints.proxies().registerJdkProxy(Connection.class);
+        // Looked up by method handle so the library still compiles for Java 17
+        hints.reflection().registerType(TypeReference.of(Executors.class), type -> type.withMethod(
+                "newVirtualThreadPerTaskExecutor", List.of(), ExecutableMode.INVOKE));
+    }
+}
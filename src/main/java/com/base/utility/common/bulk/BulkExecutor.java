@@ -0,0 +1,258 @@
+package com.base.utility.common.bulk;
+
+import com.base.utility.common.context.RequestContextSnapshot;
+import com.base.utility.common.context.VirtualThreadExecutors;
+import com.base.utility.common.deadline.DeadlineExceededException;
+import com.base.utility.common.deadline.RequestDeadline;
+import com.base.utility.exception.response.ErrorDetail;
+import com.base.utility.exception.type.BusinessException;
+import com.base.utility.exception.type.DuplicateResourceException;
+import com.base.utility.exception.type.ExternalServiceException;
+import com.base.utility.exception.type.ResourceNotFoundException;
+import com.base.utility.exception.utils.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Applies an operation to every item of a bulk request in parallel and collects a per-item outcome
+ * instead of failing the whole request on the first error.
+ * <p>
+ * Each call starts up to {@link BulkOptions#parallelism()} workers, the calling thread being one of
+ * them, which claim batches of {@link BulkOptions#batchSize()} items until none are left. Workers run
+ * with the caller's request id and deadline; once the deadline has passed no further batches are
+ * claimed and the remaining items are reported as timed out. A failed item keeps only its error code,
+ * message and details, never the exception itself, and at most {@link BulkOptions#maxErrors()}
+ * failures are listed.
+ */
+@Slf4j
+public class BulkExecutor implements AutoCloseable {
+    private static final Object FAILED = new Object();
+
+    private final Executor executor;
+    private final BulkOptions defaults;
+    private final boolean ownsExecutor;
+
+    public BulkExecutor(Executor executor, BulkOptions defaults) {
+        this(executor, defaults, false);
+    }
+
+    private BulkExecutor(Executor executor, BulkOptions defaults, boolean ownsExecutor) {
+        this.executor = executor;
+        this.defaults = defaults;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    // Backed by a dedicated pool that is shut down on close()
+    public static BulkExecutor forkJoin(int parallelism, BulkOptions defaults) {
+        return new BulkExecutor(new ForkJoinPool(parallelism), defaults, true);
+    }
+
+    // Requires JDK 21+; defaults.parallelism() still bounds the workers per call
+    public static BulkExecutor virtualThreads(BulkOptions defaults) {
+        return new BulkExecutor(VirtualThreadExecutors.newVirtualThreadPerTaskExecutor(), defaults, true);
+    }
+
+    public BulkOptions getDefaults() {
+        return defaults;
+    }
+
+    public <T, R> BulkResult<R> execute(List<? extends T> items, Function<? super T, ? extends R> operation) {
+        return execute(items, operation, defaults);
+    }
+
+    public <T, R> BulkResult<R> execute(List<? extends T> items, Function<? super T, ? extends R> operation,
+                                        BulkOptions options) {
+        Run<T, R> run = new Run<>(items, operation, options);
+        if (!items.isEmpty()) {
+            int batches = (items.size() + options.batchSize() - 1) / options.batchSize();
+            await(start(run, Math.min(options.parallelism(), batches) - 1));
+        }
+        return run.result();
+    }
+
+    public <T> BulkResult<Void> run(List<? extends T> items, Consumer<? super T> operation) {
+        return run(items, operation, defaults);
+    }
+
+    public <T> BulkResult<Void> run(List<? extends T> items, Consumer<? super T> operation, BulkOptions options) {
+        return execute(items, item -> {
+            operation.accept(item);
+            return null;
+        }, options);
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    private CompletableFuture<?>[] start(Run<?, ?> run, int helpers) {
+        RequestContextSnapshot context = RequestContextSnapshot.capture();
+        List<CompletableFuture<Void>> started = new ArrayList<>(helpers);
+        try {
+            for (int i = 0; i < helpers; i++) {
+                started.add(CompletableFuture.runAsync(context.wrap(run::work), executor));
+            }
+        } catch (RejectedExecutionException ex) {
+            // A saturated executor only costs parallelism: the calling thread drains whatever is left
+            log.debug("Bulk executor rejected a worker; continuing with {}", started.size() + 1);
+        }
+        run.work();
+        return started.toArray(new CompletableFuture<?>[0]);
+    }
+
+    private static void await(CompletableFuture<?>[] workers) {
+        try {
+            CompletableFuture.allOf(workers).join();
+        } catch (CompletionException ex) {
+            // Workers catch every Exception per item, so only Errors end up here
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    static int statusOf(Exception ex) {
+        if (ex instanceof ResourceNotFoundException) {
+            return 404;
+        }
+        if (ex instanceof DuplicateResourceException || ex instanceof DataIntegrityViolationException) {
+            return 409;
+        }
+        if (ex instanceof ExternalServiceException external) {
+            return external.getHttpStatus().value();
+        }
+        if (ex instanceof DeadlineExceededException) {
+            return 504;
+        }
+        return ex instanceof BusinessException ? 400 : 500;
+    }
+
+    static ErrorDetail errorOf(Exception ex) {
+        if (ex instanceof BusinessException business) {
+            return ErrorDetail.builder()
+                    .code(business.getErrorCode().getCode())
+                    .message(business.getMessage())
+                    .details(business.getDetails())
+                    .build();
+        }
+        // Never expose driver or framework messages to the client
+        ErrorCode code = ex instanceof DataIntegrityViolationException
+                ? ErrorCode.CONSTRAINT_VIOLATION
+                : ErrorCode.INTERNAL_SERVER_ERROR;
+        return ErrorDetail.builder()
+                .code(code.getCode())
+                .message(code.getMessage())
+                .build();
+    }
+
+    private static final class Run<T, R> {
+        private final List<? extends T> items;
+        private final Function<? super T, ? extends R> operation;
+        private final BulkOptions options;
+        // Results by index, or FAILED; only the FAILED markers are kept when results are not included
+        private final Object[] outcomes;
+        private final AtomicInteger nextBatch = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger unexpected = new AtomicInteger();
+        private final Queue<BulkItem<R>> errors = new ConcurrentLinkedQueue<>();
+
+        private Run(List<? extends T> items, Function<? super T, ? extends R> operation, BulkOptions options) {
+            this.items = items;
+            this.operation = operation;
+            this.options = options;
+            this.outcomes = new Object[items.size()];
+        }
+
+        private void work() {
+            int size = items.size();
+            int batchSize = options.batchSize();
+            while (!RequestDeadline.isExpired()) {
+                int batch = nextBatch.getAndIncrement();
+                int from = batch * batchSize;
+                if (from >= size || from < 0) {
+                    return;
+                }
+                int to = Math.min(size, from + batchSize);
+                for (int i = from; i < to; i++) {
+                    apply(i);
+                }
+            }
+        }
+
+        private void apply(int index) {
+            try {
+                R result = operation.apply(items.get(index));
+                if (options.includeResults()) {
+                    outcomes[index] = result;
+                }
+            } catch (Exception ex) {
+                if (!(ex instanceof BusinessException) && unexpected.getAndIncrement() == 0) {
+                    log.error("Bulk item {} failed unexpectedly", index, ex);
+                }
+                fail(index, statusOf(ex), errorOf(ex));
+            }
+        }
+
+        private void fail(int index, int status, ErrorDetail error) {
+            outcomes[index] = FAILED;
+            if (failed.getAndIncrement() < options.maxErrors()) {
+                errors.add(new BulkItem<>(index, status, null, error));
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private BulkResult<R> result() {
+            int size = items.size();
+            // Batches past the last one claimed were skipped because the deadline passed
+            long claimed = Math.min((long) nextBatch.get() * options.batchSize(), size);
+            if (claimed < size) {
+                ErrorDetail timeout = errorOf(new DeadlineExceededException());
+                for (int i = (int) claimed; i < size; i++) {
+                    fail(i, 504, timeout);
+                }
+            }
+            int unexpectedCount = unexpected.get();
+            if (unexpectedCount > 1) {
+                log.warn("{} more bulk items failed unexpectedly", unexpectedCount - 1);
+            }
+
+            int failedCount = failed.get();
+            List<BulkItem<R>> listed = new ArrayList<>(errors);
+            listed.sort(Comparator.comparingInt(BulkItem::index));
+            List<BulkItem<R>> merged;
+            if (options.includeResults()) {
+                merged = new ArrayList<>(size - failedCount + listed.size());
+                int next = 0;
+                for (int i = 0; i < size; i++) {
+                    if (outcomes[i] != FAILED) {
+                        merged.add(new BulkItem<>(i, 200, (R) outcomes[i], null));
+                    } else if (next < listed.size() && listed.get(next).index() == i) {
+                        merged.add(listed.get(next++));
+                    }
+                }
+            } else {
+                merged = listed;
+            }
+            return new BulkResult<>(size, size - failedCount, failedCount, merged, failedCount - listed.size());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.base.utility.common.bulk;
+
+import com.base.utility.exception.response.ErrorDetail;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one item of a bulk request: its position in the request, an HTTP-style status and either
+ * the operation's result or the error it raised.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkItem<R>(int index, int status, R data, ErrorDetail error) {
+}
@@ -0,0 +1,43 @@
+package com.base.utility.common.bulk;
+
+/**
+ * Per-call tuning for {@link BulkExecutor}.
+ *
+ * @param batchSize      items a worker claims at a time; larger batches mean less coordination, smaller
+ *                       ones spread uneven item costs more evenly
+ * @param parallelism    workers started per call, including the calling thread
+ * @param maxErrors      failures listed in the response; the rest are only counted
+ * @param includeResults list successful items with their results, not just the failures
+ */
+public record BulkOptions(int batchSize, int parallelism, int maxErrors, boolean includeResults) {
+    public static final BulkOptions DEFAULT =
+            new BulkOptions(50, Runtime.getRuntime().availableProcessors(), 100, true);
+
+    public BulkOptions {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        if (maxErrors < 0) {
+            throw new IllegalArgumentException("maxErrors must not be negative");
+        }
+    }
+
+    public BulkOptions withBatchSize(int batchSize) {
+        return new BulkOptions(batchSize, parallelism, maxErrors, includeResults);
+    }
+
+    public BulkOptions withParallelism(int parallelism) {
+        return new BulkOptions(batchSize, parallelism, maxErrors, includeResults);
+    }
+
+    public BulkOptions withMaxErrors(int maxErrors) {
+        return new BulkOptions(batchSize, parallelism, maxErrors, includeResults);
+    }
+
+    public BulkOptions withIncludeResults(boolean includeResults) {
+        return new BulkOptions(batchSize, parallelism, maxErrors, includeResults);
+    }
+}
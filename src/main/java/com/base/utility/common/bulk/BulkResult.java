@@ -0,0 +1,66 @@
+package com.base.utility.common.bulk;
+
+import com.base.utility.exception.response.ApiResponse;
+import com.base.utility.exception.response.MetaData;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Per-item outcomes of a {@link BulkExecutor} call, ordered by index. Renders as a {@code 200} envelope
+ * when every item succeeded and as a {@code 207 Multi-Status} one otherwise, with the counts in
+ * {@link MetaData} and the status of each item in the body.
+ */
+@Getter
+public class BulkResult<R> {
+    private final int total;
+    private final int succeeded;
+    private final int failed;
+    private final List<BulkItem<R>> items;
+    private final int omittedErrors;
+
+    BulkResult(int total, int succeeded, int failed, List<BulkItem<R>> items, int omittedErrors) {
+        this.total = total;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.items = items;
+        this.omittedErrors = omittedErrors;
+    }
+
+    public boolean isAllSucceeded() {
+        return failed == 0;
+    }
+
+    // "success", "error" when nothing succeeded, "partial" otherwise
+    public String getStatus() {
+        if (failed == 0) {
+            return "success";
+        }
+        return succeeded == 0 ? "error" : "partial";
+    }
+
+    public HttpStatus getHttpStatus() {
+        return failed == 0 ? HttpStatus.OK : HttpStatus.MULTI_STATUS;
+    }
+
+    public ApiResponse<MultiStatusBody<R>> toApiResponse(String requestId) {
+        return ApiResponse.<MultiStatusBody<R>>builder()
+                .status(getStatus())
+                .data(new MultiStatusBody<>(items, omittedErrors > 0 ? omittedErrors : null))
+                .meta(MetaData.builder()
+                        .requestId(requestId)
+                        .timestamp(Instant.now())
+                        .total((long) total)
+                        .succeeded(succeeded)
+                        .failed(failed)
+                        .build())
+                .build();
+    }
+
+    public ResponseEntity<ApiResponse<MultiStatusBody<R>>> toResponseEntity(String requestId) {
+        return ResponseEntity.status(getHttpStatus()).body(toApiResponse(requestId));
+    }
+}
@@ -0,0 +1,13 @@
+package com.base.utility.common.bulk;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * The {@code data} of a bulk response. {@code omittedErrors} counts failures beyond the configured
+ * {@link BulkOptions#maxErrors()} that are not listed individually.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MultiStatusBody<R>(List<BulkItem<R>> items, Integer omittedErrors) {
+}
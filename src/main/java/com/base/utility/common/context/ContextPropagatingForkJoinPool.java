@@ -0,0 +1,95 @@
+package com.base.utility.common.context;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A {@link ForkJoinPool} whose submitted tasks run with the submitter's request context. This covers
+ * {@code CompletableFuture} stages given this pool and the root task of a parallel stream started
+ * with {@code pool.submit(() -> list.parallelStream()...).join()}. Subtasks forked by a running task
+ * may be stolen by other workers, which do not see the context; wrap per-element functions with
+ * {@link RequestContextSnapshot#wrapFunction} when their logging needs the request id.
+ */
+public class ContextPropagatingForkJoinPool extends ForkJoinPool {
+
+    public ContextPropagatingForkJoinPool(int parallelism) {
+        super(parallelism);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        super.execute(RequestContextSnapshot.capture().wrap(task));
+    }
+
+    @Override
+    public void execute(ForkJoinTask<?> task) {
+        super.execute(wrap(task));
+    }
+
+    @Override
+    public <T> ForkJoinTask<T> submit(ForkJoinTask<T> task) {
+        return super.submit(wrap(task));
+    }
+
+    @Override
+    public <T> T invoke(ForkJoinTask<T> task) {
+        return super.invoke(wrap(task));
+    }
+
+    @Override
+    public <T> ForkJoinTask<T> submit(Callable<T> task) {
+        return super.submit(RequestContextSnapshot.capture().wrap(task));
+    }
+
+    @Override
+    public <T> ForkJoinTask<T> submit(Runnable task, T result) {
+        return super.submit(RequestContextSnapshot.capture().wrap(task), result);
+    }
+
+    @Override
+    public ForkJoinTask<?> submit(Runnable task) {
+        return super.submit(RequestContextSnapshot.capture().wrap(task));
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) {
+        RequestContextSnapshot snapshot = RequestContextSnapshot.capture();
+        List<Callable<T>> wrapped = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            wrapped.add(snapshot.wrap(task));
+        }
+        return super.invokeAll(wrapped);
+    }
+
+    private static <T> ForkJoinTask<T> wrap(ForkJoinTask<T> task) {
+        RequestContextSnapshot snapshot = RequestContextSnapshot.capture();
+        if (snapshot.isEmpty()) {
+            return task;
+        }
+        return new ContextTask<>(task, snapshot);
+    }
+
+    // Runs the original task inline on the worker, so joining either task yields the same result
+    private static final class ContextTask<T> extends RecursiveTask<T> {
+        private final ForkJoinTask<T> task;
+        private final RequestContextSnapshot snapshot;
+
+        private ContextTask(ForkJoinTask<T> task, RequestContextSnapshot snapshot) {
+            this.task = task;
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        protected T compute() {
+            try (RequestContextSnapshot.Scope ignored = snapshot.apply()) {
+                return task.invoke();
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.base.utility.common.context;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Carries the request context into tasks run by Spring-managed executors, including {@code @Async}
+ * methods on the auto-configured task executor.
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return RequestContextSnapshot.capture().wrap(runnable);
+    }
+}
@@ -0,0 +1,132 @@
+package com.base.utility.common.context;
+
+import com.base.utility.common.deadline.RequestDeadline;
+import org.slf4j.MDC;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.base.utility.utils.AppConstant.MDC_KEY;
+
+/**
+ * The request id ({@code MDC_KEY}) and {@link RequestDeadline} of the capturing thread, to be restored
+ * on whichever thread runs a task on its behalf. Capturing reads two thread-locals and allocates
+ * nothing when neither is set; applying restores the worker's previous values afterwards, so pooled
+ * threads never leak one request's context into the next task.
+ */
+public final class RequestContextSnapshot {
+    private static final RequestContextSnapshot EMPTY = new RequestContextSnapshot(null, null);
+
+    private final String requestId;
+    private final Long deadlineNanos;
+
+    private RequestContextSnapshot(String requestId, Long deadlineNanos) {
+        this.requestId = requestId;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public static RequestContextSnapshot capture() {
+        String requestId = MDC.get(MDC_KEY);
+        Long deadlineNanos = RequestDeadline.get();
+        if (requestId == null && deadlineNanos == null) {
+            return EMPTY;
+        }
+        return new RequestContextSnapshot(requestId, deadlineNanos);
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public boolean isEmpty() {
+        return this == EMPTY;
+    }
+
+    /**
+     * Binds this context to the current thread until the returned scope is closed.
+     */
+    public Scope apply() {
+        String previousRequestId = MDC.get(MDC_KEY);
+        Long previousDeadline = RequestDeadline.get();
+        set(requestId, deadlineNanos);
+        return () -> set(previousRequestId, previousDeadline);
+    }
+
+    private static void set(String requestId, Long deadlineNanos) {
+        if (requestId != null) {
+            MDC.put(MDC_KEY, requestId);
+        } else {
+            MDC.remove(MDC_KEY);
+        }
+        if (deadlineNanos != null) {
+            RequestDeadline.set(deadlineNanos);
+        } else {
+            RequestDeadline.clear();
+        }
+    }
+
+    // Wrapping is skipped for an empty snapshot, so context-free work pays nothing
+    public Runnable wrap(Runnable task) {
+        if (this == EMPTY) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = apply()) {
+                task.run();
+            }
+        };
+    }
+
+    public <T> Callable<T> wrap(Callable<T> task) {
+        if (this == EMPTY) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = apply()) {
+                return task.call();
+            }
+        };
+    }
+
+    // For CompletableFuture.supplyAsync and per-element parallel stream functions
+    public <T> Supplier<T> wrapSupplier(Supplier<T> supplier) {
+        if (this == EMPTY) {
+            return supplier;
+        }
+        return () -> {
+            try (Scope ignored = apply()) {
+                return supplier.get();
+            }
+        };
+    }
+
+    public <T, R> Function<T, R> wrapFunction(Function<T, R> function) {
+        if (this == EMPTY) {
+            return function;
+        }
+        return value -> {
+            try (Scope ignored = apply()) {
+                return function.apply(value);
+            }
+        };
+    }
+
+    public <T> Consumer<T> wrapConsumer(Consumer<T> consumer) {
+        if (this == EMPTY) {
+            return consumer;
+        }
+        return value -> {
+            try (Scope ignored = apply()) {
+                consumer.accept(value);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,97 @@
+package com.base.utility.common.deadline;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+
+/**
+ * Applies the remaining {@link RequestDeadline} budget as the query timeout of every statement
+ * created on its connections, which covers JPA/Hibernate as well as plain JDBC. Statements are
+ * refused with {@link SQLTimeoutException} once the budget is spent. Without a deadline the
+ * connection behaves exactly like the target's.
+ * <p>
+ * For wrapping a pool by hand; {@link DeadlineDataSourcePostProcessor} applies the same to
+ * {@code DataSource} beans without changing their type. Closing this closes the target.
+ */
+public class DeadlineAwareDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public DeadlineAwareDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return withDeadline(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return withDeadline(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    static Connection withDeadline(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                DeadlineAwareDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new DeadlineInvocationHandler(connection));
+    }
+
+    // Query timeouts are whole seconds; round up so a small remaining budget is not treated as "no timeout"
+    static int remainingSeconds() throws SQLTimeoutException {
+        long remainingMillis = RequestDeadline.remainingMillis();
+        if (remainingMillis <= 0) {
+            throw new SQLTimeoutException("Request deadline exceeded before the statement was executed");
+        }
+        return (int) Math.min(Integer.MAX_VALUE, (remainingMillis + 999) / 1000);
+    }
+
+    private record DeadlineInvocationHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("unwrap") && args.length == 1 && ((Class<?>) args[0]).isInstance(proxy)) {
+                return proxy;
+            }
+            if (name.equals("isWrapperFor") && args.length == 1 && ((Class<?>) args[0]).isInstance(proxy)) {
+                return true;
+            }
+            boolean createsStatement = name.equals("createStatement")
+                    || name.equals("prepareStatement")
+                    || name.equals("prepareCall");
+            if (!createsStatement || !RequestDeadline.isSet()) {
+                return invokeTarget(method, args);
+            }
+
+            int timeoutSeconds = remainingSeconds();
+            Object statement = invokeTarget(method, args);
+            if (statement instanceof Statement jdbcStatement) {
+                jdbcStatement.setQueryTimeout(timeoutSeconds);
+            }
+            return statement;
+        }
+
+        private Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.base.utility.common.deadline;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+
+/**
+ * Applies the {@link DeadlineAwareDataSource} behaviour to every {@link DataSource} bean through a
+ * proxy of the bean's own class, so it can still be injected as e.g. {@code HikariDataSource} and
+ * its {@code close()} still runs on shutdown. Only {@code getConnection} is intercepted.
+ */
+public class DeadlineDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource) || bean instanceof DeadlineAwareDataSource) {
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        // Final pool classes fall back to a proxy of their interfaces, which still include AutoCloseable
+        proxyFactory.setProxyTargetClass(!Modifier.isFinal(bean.getClass().getModifiers()));
+        proxyFactory.addAdvice(new ConnectionInterceptor());
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+
+    private static final class ConnectionInterceptor implements MethodInterceptor {
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Object result = invocation.proceed();
+            if (result instanceof Connection connection && invocation.getMethod().getName().equals("getConnection")) {
+                return DeadlineAwareDataSource.withDeadline(connection);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.base.utility.common.deadline;
+
+import com.base.utility.exception.type.BusinessException;
+import com.base.utility.exception.utils.ErrorCode;
+
+// Expected control flow once a caller has given up, so never captures a stack trace
+public class DeadlineExceededException extends BusinessException {
+    public DeadlineExceededException() {
+        super(ErrorCode.REQUEST_TIMEOUT, ErrorCode.REQUEST_TIMEOUT.getMessage(), null, false);
+    }
+}
@@ -0,0 +1,52 @@
+package com.base.utility.common.deadline;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The time budget of the current request, bound to the request thread by
+ * {@link RequestDeadlineFilter}. Deadlines are kept as {@link System#nanoTime()} values so they are
+ * immune to wall-clock adjustments.
+ */
+public final class RequestDeadline {
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {}
+
+    public static void set(long deadlineNanos) {
+        DEADLINE_NANOS.set(deadlineNanos);
+    }
+
+    public static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+
+    // The raw deadline, for propagating it to another thread; null when none is set
+    public static Long get() {
+        return DEADLINE_NANOS.get();
+    }
+
+    public static boolean isSet() {
+        return DEADLINE_NANOS.get() != null;
+    }
+
+    // Long.MAX_VALUE when no deadline is set; zero or negative once it has passed
+    public static long remainingMillis() {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return Long.MAX_VALUE;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+    }
+
+    public static boolean isExpired() {
+        Long deadline = DEADLINE_NANOS.get();
+        return deadline != null && deadline - System.nanoTime() <= 0;
+    }
+
+    // Call before starting expensive work that is pointless once the caller has given up
+    public static void checkNotExpired() {
+        if (isExpired()) {
+            throw new DeadlineExceededException();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.base.utility.common.deadline;
+
+import com.base.utility.common.autoconfigure.BaseUtilityProperties;
+import com.base.utility.common.filters.ErrorResponseWriter;
+import com.base.utility.exception.response.ErrorBodyTemplate;
+import com.base.utility.exception.utils.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binds a {@link RequestDeadline} for the request. The budget comes from the timeout header
+ * (milliseconds remaining), the deadline header (absolute epoch milliseconds) or the configured
+ * default, capped at the configured maximum. Requests whose budget is already spent are rejected
+ * before reaching the application.
+ */
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+    private final String timeoutHeader;
+    private final String deadlineHeader;
+    private final Duration defaultTimeout;
+    private final Duration maxTimeout;
+
+    public RequestDeadlineFilter(BaseUtilityProperties.Deadline properties) {
+        this.timeoutHeader = properties.getTimeoutHeader();
+        this.deadlineHeader = properties.getDeadlineHeader();
+        this.defaultTimeout = properties.getDefaultTimeout();
+        this.maxTimeout = properties.getMaxTimeout();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request
+            , HttpServletResponse response
+            , FilterChain filterChain) throws ServletException, IOException {
+        long budgetMillis = budgetMillis(request);
+        if (budgetMillis == Long.MAX_VALUE) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (budgetMillis <= 0) {
+            ErrorResponseWriter.write(response, HttpStatus.GATEWAY_TIMEOUT, ErrorBodyTemplate.of(ErrorCode.REQUEST_TIMEOUT));
+            return;
+        }
+
+        RequestDeadline.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    // Long.MAX_VALUE when the request has no deadline
+    private long budgetMillis(HttpServletRequest request) {
+        long budget = Long.MAX_VALUE;
+        Long timeout = parseLong(request.getHeader(timeoutHeader));
+        if (timeout != null) {
+            budget = timeout;
+        } else {
+            Long deadline = parseLong(request.getHeader(deadlineHeader));
+            if (deadline != null) {
+                budget = deadline - System.currentTimeMillis();
+            } else if (defaultTimeout != null) {
+                budget = defaultTimeout.toMillis();
+            }
+        }
+        if (maxTimeout != null) {
+            budget = Math.min(budget, maxTimeout.toMillis());
+        }
+        return budget;
+    }
+
+    private static Long parseLong(String value) {
+        if (value == null || value.isEmpty() || value.length() > 19) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
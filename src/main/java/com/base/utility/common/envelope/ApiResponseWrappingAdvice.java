@@ -0,0 +1,81 @@
+package com.base.utility.common.envelope;
+
+import com.base.utility.exception.response.ApiResponse;
+import org.slf4j.MDC;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.base.utility.utils.AppConstant.MDC_KEY;
+import static com.base.utility.utils.AppConstant.REQUEST_ID_ATTRIBUTE;
+
+/**
+ * Wraps the return values of {@link WrapApiResponse} handlers in a {@link SuccessEnvelope} on their
+ * way to a Jackson converter. Bodies that already are an {@link ApiResponse}, error responses
+ * (status 400 and above) and bodies written by other converters, such as plain strings, are left alone.
+ */
+@ControllerAdvice
+public class ApiResponseWrappingAdvice implements ResponseBodyAdvice<Object> {
+    // Consulted for every response body, so the annotation lookup is done once per handler method
+    private final Map<MethodParameter, Boolean> wrappedReturnTypes = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.getMethod() != null
+                && AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType)
+                && wrappedReturnTypes.computeIfAbsent(returnType, ApiResponseWrappingAdvice::isWrapped);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body instanceof ApiResponse<?> || isError(response)) {
+            return body;
+        }
+        // Set by JsonViewResponseBodyAdvice for @JsonView handlers; the view still applies to data
+        if (body instanceof MappingJacksonValue container) {
+            if (!(container.getValue() instanceof ApiResponse<?>)) {
+                container.setValue(new SuccessEnvelope(container.getValue(), requestId(request)));
+            }
+            return container;
+        }
+        return new SuccessEnvelope(body, requestId(request));
+    }
+
+    private static boolean isWrapped(MethodParameter returnType) {
+        Method method = returnType.getMethod();
+        return !ApiResponse.class.isAssignableFrom(returnType.getParameterType())
+                && (AnnotatedElementUtils.hasAnnotation(method, WrapApiResponse.class)
+                || AnnotatedElementUtils.hasAnnotation(returnType.getContainingClass(), WrapApiResponse.class));
+    }
+
+    private static boolean isError(ServerHttpResponse response) {
+        return response instanceof ServletServerHttpResponse servletResponse
+                && servletResponse.getServletResponse().getStatus() >= 400;
+    }
+
+    // The filter's request attribute avoids a thread-local lookup; MDC covers apps without the filter
+    private static String requestId(ServerHttpRequest request) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            Object requestId = servletRequest.getServletRequest().getAttribute(REQUEST_ID_ATTRIBUTE);
+            if (requestId != null) {
+                return (String) requestId;
+            }
+        }
+        return MDC.get(MDC_KEY);
+    }
+}
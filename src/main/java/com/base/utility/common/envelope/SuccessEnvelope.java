@@ -0,0 +1,63 @@
+package com.base.utility.common.envelope;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * Writes the same tokens as a successful {@code ApiResponse} around a raw controller return value,
+ * without building the {@code ApiResponse} and {@code MetaData} objects. Field names are pre-encoded,
+ * and {@code data} and {@code timestamp} go through the mapper's own serializers, so the output
+ * matches the wrapper types, field order included, for every Jackson format.
+ */
+final class SuccessEnvelope implements JsonSerializable {
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString SUCCESS = new SerializedString("success");
+    private static final SerializableString DATA = new SerializedString("data");
+    private static final SerializableString META = new SerializedString("meta");
+    private static final SerializableString REQUEST_ID = new SerializedString("requestId");
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+
+    private final Object data;
+    private final String requestId;
+
+    SuccessEnvelope(Object data, String requestId) {
+        this.data = data;
+        this.requestId = requestId;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(this);
+        gen.writeFieldName(STATUS);
+        gen.writeString(SUCCESS);
+        // Omitted like every other null field of the envelope
+        if (data != null) {
+            gen.writeFieldName(DATA);
+            provider.defaultSerializeValue(data, gen);
+        }
+        gen.writeFieldName(META);
+        gen.writeStartObject();
+        gen.writeFieldName(TIMESTAMP);
+        provider.defaultSerializeValue(Instant.now(), gen);
+        if (requestId != null) {
+            gen.writeFieldName(REQUEST_ID);
+            gen.writeString(requestId);
+        }
+        gen.writeEndObject();
+        gen.writeEndObject();
+    }
+
+    // The envelope is never read back polymorphically, so default typing adds no type id
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer)
+            throws IOException {
+        serialize(gen, provider);
+    }
+}
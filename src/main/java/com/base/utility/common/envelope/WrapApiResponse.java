@@ -0,0 +1,19 @@
+package com.base.utility.common.envelope;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lets the annotated controller, or a single handler method, return its data as is: successful
+ * responses are written inside the usual {@code status}/{@code data}/{@code meta} envelope by
+ * {@link ApiResponseWrappingAdvice}, as if the method had returned {@code ApiResponse.success(data, requestId)}.
+ * {@code String} return values and {@code null} bodies are written as they would be without it.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface WrapApiResponse {
+}
@@ -0,0 +1,26 @@
+package com.base.utility.common.filters;
+
+import com.base.utility.exception.response.ErrorBodyTemplate;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.time.Instant;
+
+import static com.base.utility.utils.AppConstant.MDC_KEY;
+
+/**
+ * Writes the standard error envelope from servlet filters, which run outside of Spring MVC and so
+ * cannot rely on {@code GlobalExceptionHandler} or the message converters.
+ */
+public final class ErrorResponseWriter {
+    private ErrorResponseWriter() {}
+
+    public static void write(HttpServletResponse response, HttpStatus status, ErrorBodyTemplate template) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        template.writeTo(response.getOutputStream(), MDC.get(MDC_KEY), Instant.now());
+    }
+}
@@ -1,47 +1,123 @@
 package com.base.utility.common.filters;
 
+import com.base.utility.common.autoconfigure.BaseUtilityProperties;
+import com.base.utility.common.jfr.FlightRecorderEvents;
+import com.base.utility.common.metrics.RequestMetrics;
+import com.base.utility.common.requestid.RandomUuidRequestIdGenerator;
+import com.base.utility.common.requestid.RequestIdGenerator;
+import com.base.utility.common.requestid.RequestIdSanitizer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.MDC;
-import org.springframework.core.Ordered;
-import org.springframework.core.annotation.Order;
-import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
-import java.util.Optional;
-import java.util.UUID;
 
 import static com.base.utility.utils.AppConstant.MDC_KEY;
+import static com.base.utility.utils.AppConstant.REQUEST_ID_ATTRIBUTE;
 import static com.base.utility.utils.AppConstant.REQUEST_UID_HEADER;
 
-@Component
-@Order(Ordered.HIGHEST_PRECEDENCE)
+/**
+ * Registered first in the filter chain by {@code BaseUtilityAutoConfiguration}.
+ */
 public class RequestCorrelationFilter extends OncePerRequestFilter {
+    private final RequestIdGenerator requestIdGenerator;
+    private final RequestIdSanitizer sanitizer;
+    private final RequestMetrics requestMetrics;
+    private final FlightRecorderEvents flightRecorderEvents;
+
+    public RequestCorrelationFilter() {
+        this(new RandomUuidRequestIdGenerator(), new BaseUtilityProperties.RequestId(), null, null);
+    }
+
+    // requestMetrics and flightRecorderEvents may be null
+    public RequestCorrelationFilter(RequestIdGenerator requestIdGenerator,
+                                    BaseUtilityProperties.RequestId properties,
+                                    RequestMetrics requestMetrics,
+                                    FlightRecorderEvents flightRecorderEvents) {
+        this.requestIdGenerator = requestIdGenerator;
+        this.sanitizer = new RequestIdSanitizer(properties);
+        this.requestMetrics = requestMetrics;
+        this.flightRecorderEvents = flightRecorderEvents;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request
             , HttpServletResponse response
             , FilterChain filterChain) throws ServletException, IOException {
         // Try to get the UID from the header, or generate a new one
-        String requestUid = Optional.ofNullable(request.getHeader(REQUEST_UID_HEADER))
-                .orElse(UUID.randomUUID().toString());
+        String requestUid = sanitizer.sanitize(request.getHeader(REQUEST_UID_HEADER));
+        if (requestUid == null) {
+            requestUid = requestIdGenerator.generate();
+        }
 
         // Put the UID into the MDC for logging
         MDC.put(MDC_KEY, requestUid);
+        request.setAttribute(REQUEST_ID_ATTRIBUTE, requestUid);
 
         // Add the UID to the response header
         response.setHeader(REQUEST_UID_HEADER, requestUid);
 
+        HttpServletResponse recordedResponse = flightRecorderEvents != null
+                ? flightRecorderEvents.beginRequest(request, response)
+                : response;
+        long start = System.nanoTime();
+        boolean async = false;
         try {
             // Continue the filter chain
-            filterChain.doFilter(request, response);
+            filterChain.doFilter(request, recordedResponse);
+            if (request.isAsyncStarted()) {
+                // The async dispatch is not filtered, so the request is recorded once the response completes
+                async = true;
+                request.getAsyncContext().addListener(
+                        new RecordOnCompletion(this, request, recordedResponse, requestUid, start));
+            }
         } finally {
+            if (!async) {
+                record(request, recordedResponse, requestUid, start);
+            }
             // Crucial: Clean up the MDC after the request is complete
             MDC.remove(MDC_KEY);
         }
     }
-}
 
+    private void record(HttpServletRequest request, HttpServletResponse response, String requestUid, long start) {
+        if (requestMetrics != null) {
+            requestMetrics.record(
+                    (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE),
+                    System.nanoTime() - start);
+        }
+        if (flightRecorderEvents != null) {
+            flightRecorderEvents.endRequest(request, response, requestUid);
+        }
+    }
+
+    private record RecordOnCompletion(RequestCorrelationFilter filter, HttpServletRequest request,
+                                      HttpServletResponse response, String requestUid,
+                                      long start) implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            filter.record(request, response, requestUid, start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // onComplete follows
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // onComplete follows
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.base.utility.common.idempotency;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A completed response stored for replay, together with the fingerprint of the request that
+ * produced it so that reuse of a key for a different request can be detected.
+ */
+public record CachedResponse(String requestFingerprint, int status, Map<String, List<String>> headers,
+                             byte[] body, long createdNanos) {
+
+    // Approximate heap footprint used to bound the cache by size
+    public long weight() {
+        long weight = 128L + body.length + requestFingerprint.length() * 2L;
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            weight += 48L + header.getKey().length() * 2L;
+            for (String value : header.getValue()) {
+                weight += 40L + value.length() * 2L;
+            }
+        }
+        return weight;
+    }
+}
@@ -0,0 +1,136 @@
+package com.base.utility.common.idempotency;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Size- and TTL-bounded LRU cache of completed responses. Keys are hashed onto independent
+ * segments, each an access-ordered {@link LinkedHashMap} with its own lock and share of the
+ * entry and byte budgets, so concurrent requests for different keys rarely contend.
+ */
+public class IdempotencyCache {
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final long ttlNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public IdempotencyCache(int segments, int maxEntries, long maxBytes, Duration ttl) {
+        int segmentCount = 1;
+        while (segmentCount < segments) {
+            segmentCount <<= 1;
+        }
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            this.segments[i] = new Segment(Math.max(1, maxEntries / segmentCount), Math.max(1, maxBytes / segmentCount));
+        }
+        this.segmentMask = segmentCount - 1;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public CachedResponse get(String key) {
+        CachedResponse response = segment(key).get(key, System.nanoTime());
+        if (response == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return response;
+    }
+
+    public void put(String key, CachedResponse response) {
+        segment(key).put(key, response);
+    }
+
+    public Stats stats() {
+        long size = 0;
+        long bytes = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.entries.size();
+                bytes += segment.weight;
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), size, bytes);
+    }
+
+    private Segment segment(String key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    public record Stats(long hits, long misses, long evictions, long expirations, long size, long bytes) {
+    }
+
+    private final class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final int maxEntries;
+        private final long maxBytes;
+        private long weight;
+
+        private Segment(int maxEntries, long maxBytes) {
+            this.maxEntries = maxEntries;
+            this.maxBytes = maxBytes;
+        }
+
+        private CachedResponse get(String key, long now) {
+            lock.lock();
+            try {
+                CachedResponse response = entries.get(key);
+                if (response != null && now - response.createdNanos() >= ttlNanos) {
+                    entries.remove(key);
+                    weight -= response.weight();
+                    expirations.increment();
+                    return null;
+                }
+                return response;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void put(String key, CachedResponse response) {
+            long responseWeight = response.weight();
+            if (responseWeight > maxBytes) {
+                return;
+            }
+            lock.lock();
+            try {
+                CachedResponse previous = entries.put(key, response);
+                if (previous != null) {
+                    weight -= previous.weight();
+                }
+                weight += responseWeight;
+                evict(System.nanoTime());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Drops least recently used entries until both budgets are met
+        private void evict(long now) {
+            Iterator<CachedResponse> iterator = entries.values().iterator();
+            while (iterator.hasNext() && (entries.size() > maxEntries || weight > maxBytes)) {
+                CachedResponse eldest = iterator.next();
+                iterator.remove();
+                weight -= eldest.weight();
+                if (now - eldest.createdNanos() >= ttlNanos) {
+                    expirations.increment();
+                } else {
+                    evictions.increment();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.base.utility.common.idempotency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes {@link IdempotencyCache} statistics to Micrometer. Values are read from the cache
+ * when scraped.
+ */
+public class IdempotencyCacheMeterBinder implements MeterBinder {
+    private final IdempotencyCache cache;
+
+    public IdempotencyCacheMeterBinder(IdempotencyCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("base.utility.idempotency.requests", cache, c -> c.stats().hits())
+                .description("Idempotency cache lookups")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("base.utility.idempotency.requests", cache, c -> c.stats().misses())
+                .description("Idempotency cache lookups")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("base.utility.idempotency.removals", cache, c -> c.stats().evictions())
+                .description("Responses removed from the idempotency cache")
+                .tag("cause", "size")
+                .register(registry);
+        FunctionCounter.builder("base.utility.idempotency.removals", cache, c -> c.stats().expirations())
+                .description("Responses removed from the idempotency cache")
+                .tag("cause", "expired")
+                .register(registry);
+        Gauge.builder("base.utility.idempotency.size", cache, c -> c.stats().size())
+                .description("Responses held in the idempotency cache")
+                .register(registry);
+        Gauge.builder("base.utility.idempotency.bytes", cache, c -> c.stats().bytes())
+                .description("Approximate memory held by cached responses in bytes")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+}
@@ -0,0 +1,523 @@
+package com.base.utility.common.idempotency;
+
+import com.base.utility.common.autoconfigure.BaseUtilityProperties;
+import com.base.utility.common.filters.ErrorResponseWriter;
+import com.base.utility.exception.response.ErrorBodyTemplate;
+import com.base.utility.exception.utils.ErrorCode;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Makes retried requests carrying an {@code Idempotency-Key} header safe. The first request with a
+ * key executes and, unless it fails with a 5xx, its status, headers and body are cached; a retry
+ * with the same key and the same method, URI and body gets the cached response replayed with
+ * {@code Idempotent-Replayed: true}. A retry that arrives while the first is still running waits
+ * for it instead of executing again. Reusing a key for a different request is answered with
+ * {@code 422} and {@link ErrorCode#RESOURCE_CONFLICT}.
+ * <p>
+ * Keys are scoped to the authenticated principal, so a client can never replay another client's
+ * response; unauthenticated requests share one scope. Responses of handlers that go async, such as
+ * {@code StreamingResponseBody}, are cached and sent once the async dispatch completes. Response
+ * bodies are held back only up to {@code maxBodyBytes}; larger ones are passed through to the client
+ * as they are written and not cached.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+    private static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final String PENDING_ATTRIBUTE = IdempotencyFilter.class.getName() + ".PENDING";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final ErrorBodyTemplate KEY_MISMATCH = ErrorBodyTemplate.of(ErrorCode.RESOURCE_CONFLICT,
+            "Idempotency key was already used for a different request");
+    private static final ErrorBodyTemplate STILL_IN_PROGRESS = ErrorBodyTemplate.of(ErrorCode.RESOURCE_CONFLICT,
+            "A request with this idempotency key is still being processed");
+    private static final ErrorBodyTemplate INVALID_KEY = ErrorBodyTemplate.of(ErrorCode.INVALID_REQUEST,
+            "Idempotency key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+
+    // Marker for "the other request did not finish in time"
+    private static final CachedResponse STILL_RUNNING = new CachedResponse("", 0, Map.of(), new byte[0], 0);
+
+    private final IdempotencyCache cache;
+    private final String keyHeader;
+    private final Set<String> methods;
+    private final int maxBodyBytes;
+    private final Duration waitTimeout;
+    private final Map<String, CompletableFuture<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyFilter(IdempotencyCache cache, BaseUtilityProperties.Idempotency properties) {
+        this.cache = cache;
+        this.keyHeader = properties.getKeyHeader();
+        this.methods = properties.getMethods().stream()
+                .map(method -> method.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.maxBodyBytes = properties.getMaxBodyBytes();
+        this.waitTimeout = properties.getWaitTimeout();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !methods.contains(request.getMethod()) || request.getHeader(keyHeader) == null;
+    }
+
+    // The async dispatch finishes executions whose handler went async
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request
+            , HttpServletResponse response
+            , FilterChain filterChain) throws ServletException, IOException {
+        if (isAsyncDispatch(request)) {
+            resume(request, response, filterChain);
+            return;
+        }
+        String key = request.getHeader(keyHeader);
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            ErrorResponseWriter.write(response, HttpStatus.BAD_REQUEST, INVALID_KEY);
+            return;
+        }
+        // Too large to fingerprint and replay cheaply: process without idempotency guarantees
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // Chunked bodies have no length up front, so stop reading once the cap is passed
+        byte[] body = request.getInputStream().readNBytes((int) Math.min(maxBodyBytes + 1L, Integer.MAX_VALUE - 8));
+        if (body.length > maxBodyBytes) {
+            filterChain.doFilter(new CachedBodyRequest(request, body, request.getInputStream()), response);
+            return;
+        }
+        key = scopedKey(request, key);
+        String fingerprint = fingerprint(request, body);
+
+        // At most two rounds: if the request we waited on produced nothing cacheable, run our own
+        for (int attempt = 0; attempt < 2; attempt++) {
+            CachedResponse cached = cache.get(key);
+            if (cached != null) {
+                replay(cached, fingerprint, response);
+                return;
+            }
+
+            CompletableFuture<CachedResponse> execution = new CompletableFuture<>();
+            CompletableFuture<CachedResponse> existing = inFlight.putIfAbsent(key, execution);
+            if (existing == null) {
+                execute(key, fingerprint, body, request, response, filterChain, execution);
+                return;
+            }
+
+            CachedResponse completed = await(existing);
+            if (completed == STILL_RUNNING) {
+                ErrorResponseWriter.write(response, HttpStatus.CONFLICT, STILL_IN_PROGRESS);
+                return;
+            }
+            if (completed != null) {
+                replay(completed, fingerprint, response);
+                return;
+            }
+        }
+        filterChain.doFilter(new CachedBodyRequest(request, body, null), response);
+    }
+
+    private void execute(String key, String fingerprint, byte[] body, HttpServletRequest request,
+                         HttpServletResponse response, FilterChain filterChain,
+                         CompletableFuture<CachedResponse> execution) throws ServletException, IOException {
+        Execution pending = new Execution(key, fingerprint, execution,
+                new CapturingResponse(response, maxBodyBytes));
+        boolean completed = false;
+        try {
+            filterChain.doFilter(new CachedBodyRequest(request, body, null), pending.response);
+            completed = true;
+        } finally {
+            if (request.isAsyncStarted()) {
+                // The body is still to be written; resume() finishes on the async dispatch
+                request.setAttribute(PENDING_ATTRIBUTE, pending);
+                request.getAsyncContext().addListener(pending);
+            } else {
+                finish(pending, completed);
+            }
+        }
+    }
+
+    private void resume(HttpServletRequest request, HttpServletResponse response,
+                        FilterChain filterChain) throws ServletException, IOException {
+        Execution pending = (Execution) request.getAttribute(PENDING_ATTRIBUTE);
+        if (pending == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (!request.isAsyncStarted()) {
+                request.removeAttribute(PENDING_ATTRIBUTE);
+                finish(pending, completed);
+            }
+        }
+    }
+
+    private void finish(Execution pending, boolean completed) throws IOException {
+        CachedResponse result = null;
+        try {
+            byte[] body = completed ? pending.response.capturedBody() : null;
+            if (body != null && pending.response.getStatus() < 500) {
+                result = capture(pending.fingerprint, pending.response, body);
+                cache.put(pending.key, result);
+            }
+        } finally {
+            pending.release(result);
+            pending.response.sendCapturedBody();
+        }
+    }
+
+    private CachedResponse await(CompletableFuture<CachedResponse> execution) throws IOException {
+        try {
+            return execution.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            return STILL_RUNNING;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for an in-flight idempotent request", ex);
+        } catch (ExecutionException ex) {
+            return null;
+        }
+    }
+
+    private static CachedResponse capture(String fingerprint, HttpServletResponse response, byte[] body) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            headers.put(name, new ArrayList<>(response.getHeaders(name)));
+        }
+        if (response.getContentType() != null) {
+            headers.put("Content-Type", List.of(response.getContentType()));
+        }
+        return new CachedResponse(fingerprint, response.getStatus(), headers, body, System.nanoTime());
+    }
+
+    private static void replay(CachedResponse cached, String fingerprint,
+                               HttpServletResponse response) throws IOException {
+        if (!cached.requestFingerprint().equals(fingerprint)) {
+            ErrorResponseWriter.write(response, HttpStatus.UNPROCESSABLE_ENTITY, KEY_MISMATCH);
+            return;
+        }
+        response.setStatus(cached.status());
+        cached.headers().forEach((name, values) -> {
+            // Keep the request id of the current attempt rather than the original one
+            if (!response.containsHeader(name)) {
+                values.forEach(value -> response.addHeader(name, value));
+            }
+        });
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(cached.body().length);
+        response.getOutputStream().write(cached.body());
+    }
+
+    // Length-prefixed so that no principal and key pair can collide with another
+    private static String scopedKey(HttpServletRequest request, String key) {
+        Principal principal = request.getUserPrincipal();
+        String client = principal != null && principal.getName() != null ? principal.getName() : "";
+        return client.length() + ":" + client + ":" + key;
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        StringBuilder fingerprint = new StringBuilder(128)
+                .append(request.getMethod())
+                .append(' ')
+                .append(request.getRequestURI());
+        if (request.getQueryString() != null) {
+            fingerprint.append('?').append(request.getQueryString());
+        }
+        return fingerprint.append(' ').append(HexFormat.of().formatHex(sha256(body))).toString();
+    }
+
+    private static byte[] sha256(byte[] body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private final class Execution implements AsyncListener {
+        private final String key;
+        private final String fingerprint;
+        private final CompletableFuture<CachedResponse> future;
+        private final CapturingResponse response;
+
+        private Execution(String key, String fingerprint, CompletableFuture<CachedResponse> future,
+                          CapturingResponse response) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+            this.future = future;
+            this.response = response;
+        }
+
+        // Idempotent: waiting retries are woken once, with the cached response or null
+        private void release(CachedResponse result) {
+            inFlight.remove(key, future);
+            future.complete(result);
+        }
+
+        // Covers async requests that end without an async dispatch, e.g. when the client goes away
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(null);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // onComplete follows
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // onComplete follows
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    /**
+     * Holds back the body while it fits in {@code limit} bytes. Once it grows larger, what was held
+     * back is written out, everything else passes straight through and the response is no longer
+     * captured. Headers and status always go to the wrapped response.
+     */
+    private static final class CapturingResponse extends HttpServletResponseWrapper {
+        private final int limit;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private volatile boolean overflowed;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        private CapturingResponse(HttpServletResponse response, int limit) {
+            super(response);
+            this.limit = limit;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CapturingOutputStream(getResponse().getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                String encoding = getCharacterEncoding();
+                Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), charset));
+            }
+            return writer;
+        }
+
+        // Committing while the body is held back would send it after headers that may still change
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (overflowed) {
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public void resetBuffer() {
+            buffer.reset();
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            buffer.reset();
+            super.reset();
+        }
+
+        // The complete body, or null once it has outgrown the limit
+        private byte[] capturedBody() {
+            if (writer != null) {
+                writer.flush();
+            }
+            return overflowed ? null : buffer.toByteArray();
+        }
+
+        private void sendCapturedBody() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (!overflowed && buffer.size() > 0) {
+                buffer.writeTo(getResponse().getOutputStream());
+                buffer.reset();
+            }
+        }
+
+        private void overflow() throws IOException {
+            overflowed = true;
+            buffer.writeTo(getResponse().getOutputStream());
+            buffer.reset();
+        }
+
+        private final class CapturingOutputStream extends ServletOutputStream {
+            private final ServletOutputStream target;
+
+            private CapturingOutputStream(ServletOutputStream target) {
+                this.target = target;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                if (!overflowed && buffer.size() >= limit) {
+                    overflow();
+                }
+                if (overflowed) {
+                    target.write(b);
+                } else {
+                    buffer.write(b);
+                }
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                if (!overflowed && buffer.size() + length > limit) {
+                    overflow();
+                }
+                if (overflowed) {
+                    target.write(bytes, offset, length);
+                } else {
+                    buffer.write(bytes, offset, length);
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (overflowed) {
+                    target.flush();
+                }
+            }
+
+            @Override
+            public boolean isReady() {
+                return !overflowed || target.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                target.setWriteListener(writeListener);
+            }
+        }
+    }
+
+    /**
+     * Replays the buffered body, followed by the unread rest of the original stream when the body
+     * was too large to buffer completely.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+        private final ServletInputStream rest;
+        private ServletInputStream inputStream;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body, ServletInputStream rest) {
+            super(request);
+            this.body = body;
+            this.rest = rest;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            if (inputStream == null) {
+                inputStream = new BodyInputStream(new ByteArrayInputStream(body), rest);
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+
+    private static final class BodyInputStream extends ServletInputStream {
+        private final ByteArrayInputStream buffered;
+        private final ServletInputStream rest;
+
+        private BodyInputStream(ByteArrayInputStream buffered, ServletInputStream rest) {
+            this.buffered = buffered;
+            this.rest = rest;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return buffered.available() == 0 && (rest == null || rest.isFinished());
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new UnsupportedOperationException("Non-blocking reads are not supported");
+        }
+
+        @Override
+        public int read() throws IOException {
+            int next = buffered.read();
+            return next < 0 && rest != null ? rest.read() : next;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = buffered.read(buffer, offset, length);
+            return read < 0 && rest != null ? rest.read(buffer, offset, length) : read;
+        }
+    }
+}
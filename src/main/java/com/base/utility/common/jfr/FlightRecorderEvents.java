@@ -0,0 +1,144 @@
+package com.base.utility.common.jfr;
+
+import com.base.utility.exception.utils.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jdk.jfr.EventType;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+
+/**
+ * Emits {@link RequestEvent}s and {@link HandledExceptionEvent}s. While no JFR recording has either
+ * event enabled, {@link #beginRequest} returns the response untouched and nothing is allocated.
+ * Events faster than the configured thresholds are dropped before any field is filled in.
+ */
+public class FlightRecorderEvents {
+    static final String RECORDING_ATTRIBUTE = FlightRecorderEvents.class.getName() + ".RECORDING";
+
+    // Set once an instance exists, so handlers never touch jdk.jfr while recording is switched off
+    private static volatile boolean active;
+
+    private final long requestThresholdNanos;
+    private final long exceptionThresholdNanos;
+
+    public FlightRecorderEvents(Duration requestThreshold, Duration exceptionThreshold) {
+        this.requestThresholdNanos = requestThreshold.toNanos();
+        this.exceptionThresholdNanos = exceptionThreshold.toNanos();
+        active = true;
+    }
+
+    public HttpServletResponse beginRequest(HttpServletRequest request, HttpServletResponse response) {
+        if (!EventTypes.REQUEST.isEnabled() && !EventTypes.EXCEPTION.isEnabled()) {
+            return response;
+        }
+        RecordedResponse recorded = new RecordedResponse(response, this);
+        request.setAttribute(RECORDING_ATTRIBUTE, recorded);
+        return recorded;
+    }
+
+    /**
+     * Commits the events of a request. For async requests it must be called once the response has
+     * completed, so that the status and response size are final.
+     */
+    public void endRequest(HttpServletRequest request, HttpServletResponse response, String requestId) {
+        if (!(response instanceof RecordedResponse recorded)) {
+            return;
+        }
+        long elapsed = System.nanoTime() - recorded.startNanos;
+        String route = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        RequestEvent event = recorded.requestEvent;
+        event.end();
+        if (elapsed >= requestThresholdNanos && event.shouldCommit()) {
+            event.requestId = requestId;
+            event.method = request.getMethod();
+            event.route = route;
+            event.status = recorded.getStatus();
+            event.responseSize = recorded.bytesWritten();
+            event.commit();
+        }
+
+        HandledExceptionEvent exceptionEvent = recorded.exceptionEvent;
+        if (exceptionEvent != null && exceptionEvent.handled) {
+            exceptionEvent.requestId = requestId;
+            exceptionEvent.route = route;
+            exceptionEvent.responseSize = recorded.bytesWritten();
+            exceptionEvent.commit();
+        }
+    }
+
+    // Called by HandledExceptionEventResolver before any exception handler runs
+    void beginException(HttpServletRequest request) {
+        if (EventTypes.EXCEPTION.isEnabled() && request.getAttribute(RECORDING_ATTRIBUTE) instanceof RecordedResponse recorded) {
+            HandledExceptionEvent event = new HandledExceptionEvent();
+            event.startNanos = System.nanoTime();
+            event.begin();
+            recorded.exceptionEvent = event;
+        }
+    }
+
+    /**
+     * Completes the exception event of the current request. It is committed by {@link #endRequest}
+     * once the response size is known.
+     */
+    public static void exceptionHandled(HttpStatus status, ErrorCode errorCode, Throwable ex) {
+        if (!active || !EventTypes.EXCEPTION.isEnabled()) {
+            return;
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null
+                || !(attributes.getAttribute(RECORDING_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof RecordedResponse recorded)
+                || recorded.exceptionEvent == null) {
+            return;
+        }
+        HandledExceptionEvent event = recorded.exceptionEvent;
+        event.end();
+        if (System.nanoTime() - event.startNanos >= recorded.events.exceptionThresholdNanos && event.shouldCommit()) {
+            event.exceptionType = ex.getClass();
+            event.errorCode = errorCode.getCode();
+            event.status = status.value();
+            event.handled = true;
+        }
+    }
+
+    /**
+     * Starts a {@link HandledExceptionEvent} for a handler that writes the error response itself, as the
+     * reactive one does; {@code null} while the event is disabled.
+     */
+    public HandledExceptionEvent startException() {
+        if (!EventTypes.EXCEPTION.isEnabled()) {
+            return null;
+        }
+        HandledExceptionEvent event = new HandledExceptionEvent();
+        event.startNanos = System.nanoTime();
+        event.begin();
+        return event;
+    }
+
+    // Commits an event from startException() right away, as there is no enclosing request event
+    public void commitException(HandledExceptionEvent event, String requestId, String route, HttpStatus status,
+                                ErrorCode errorCode, Throwable ex, long responseSize) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (System.nanoTime() - event.startNanos >= exceptionThresholdNanos && event.shouldCommit()) {
+            event.requestId = requestId;
+            event.route = route;
+            event.exceptionType = ex.getClass();
+            event.errorCode = errorCode.getCode();
+            event.status = status.value();
+            event.responseSize = responseSize;
+            event.commit();
+        }
+    }
+
+    private static final class EventTypes {
+        static final EventType REQUEST = EventType.getEventType(RequestEvent.class);
+        static final EventType EXCEPTION = EventType.getEventType(HandledExceptionEvent.class);
+    }
+}
@@ -0,0 +1,48 @@
+package com.base.utility.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An exception turned into an error response by {@code GlobalExceptionHandler}. The duration covers
+ * exception handler resolution and the handler method; serializing the body is part of the
+ * enclosing {@link RequestEvent}. For {@code ReactiveGlobalExceptionHandler} it covers mapping and
+ * rendering the body, and there is no enclosing event.
+ */
+@Name(HandledExceptionEvent.NAME)
+@Label("Handled Exception")
+@Description("Exception mapped to an error response by the global exception handler")
+@Category({"Base Utility", "HTTP"})
+@StackTrace(false)
+public class HandledExceptionEvent extends Event {
+    public static final String NAME = "com.base.utility.HandledException";
+
+    @Label("Request ID")
+    String requestId;
+
+    @Label("Route")
+    String route;
+
+    @Label("Exception Type")
+    Class<?> exceptionType;
+
+    @Label("Error Code")
+    String errorCode;
+
+    @Label("Status")
+    int status;
+
+    @Label("Response Size")
+    @Description("Bytes written to the response output stream, -1 when the body was written through the writer")
+    @DataAmount
+    long responseSize;
+
+    // Not recorded; set once the handler has produced a response that passed the threshold
+    transient boolean handled;
+    transient long startNanos;
+}
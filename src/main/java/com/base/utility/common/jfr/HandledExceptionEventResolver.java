@@ -0,0 +1,25 @@
+package com.base.utility.common.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * Starts the {@link HandledExceptionEvent} clock. Must be the first resolver; it never resolves
+ * anything itself.
+ */
+public class HandledExceptionEventResolver implements HandlerExceptionResolver {
+    private final FlightRecorderEvents events;
+
+    public HandledExceptionEventResolver(FlightRecorderEvents events) {
+        this.events = events;
+    }
+
+    @Override
+    public ModelAndView resolveException(HttpServletRequest request, HttpServletResponse response,
+                                         Object handler, Exception ex) {
+        events.beginException(request);
+        return null;
+    }
+}
@@ -0,0 +1,91 @@
+package com.base.utility.common.jfr;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Carries the events of a recorded request and counts the bytes written to the output stream.
+ * Writer output is passed through uncounted, since buffering it here would need an explicit flush.
+ */
+final class RecordedResponse extends HttpServletResponseWrapper {
+    final FlightRecorderEvents events;
+    final RequestEvent requestEvent = new RequestEvent();
+    final long startNanos = System.nanoTime();
+    HandledExceptionEvent exceptionEvent;
+
+    private CountingOutputStream outputStream;
+    private boolean usedWriter;
+
+    RecordedResponse(HttpServletResponse response, FlightRecorderEvents events) {
+        super(response);
+        this.events = events;
+        requestEvent.begin();
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CountingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        usedWriter = true;
+        return super.getWriter();
+    }
+
+    long bytesWritten() {
+        if (usedWriter) {
+            return -1;
+        }
+        return outputStream != null ? outputStream.count : 0;
+    }
+
+    private static final class CountingOutputStream extends ServletOutputStream {
+        private final ServletOutputStream target;
+        private long count;
+
+        private CountingOutputStream(ServletOutputStream target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            target.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            target.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            target.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            target.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return target.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            target.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.base.utility.common.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Summarizes the {@link RequestEvent}s and {@link HandledExceptionEvent}s of a {@code .jfr} file by
+ * route and by error code:
+ * <pre>
+ * java -cp utility.jar com.base.utility.common.jfr.RecordingSummary recording.jfr
+ * </pre>
+ */
+public final class RecordingSummary {
+    private static final String UNMATCHED = "(unmatched)";
+
+    private final Map<String, Stats> byRoute = new HashMap<>();
+    private final Map<String, Stats> byErrorCode = new HashMap<>();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: RecordingSummary <recording.jfr>...");
+            System.exit(2);
+        }
+        RecordingSummary summary = new RecordingSummary();
+        for (String file : args) {
+            summary.read(Path.of(file));
+        }
+        summary.print(System.out);
+    }
+
+    public void read(Path recording) throws IOException {
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                accept(file.readEvent());
+            }
+        }
+    }
+
+    public void accept(RecordedEvent event) {
+        String name = event.getEventType().getName();
+        if (name.equals(RequestEvent.NAME)) {
+            String route = event.getString("route");
+            stats(byRoute, route != null ? event.getString("method") + " " + route : UNMATCHED)
+                    .add(event.getDuration().toNanos(), event.getLong("responseSize"), event.getInt("status") >= 400);
+        } else if (name.equals(HandledExceptionEvent.NAME)) {
+            stats(byErrorCode, event.getString("errorCode"))
+                    .add(event.getDuration().toNanos(), event.getLong("responseSize"), true);
+        }
+    }
+
+    public void print(PrintStream out) {
+        out.println("Requests by route");
+        print(out, byRoute);
+        out.println();
+        out.println("Handled exceptions by error code");
+        print(out, byErrorCode);
+    }
+
+    private static void print(PrintStream out, Map<String, Stats> stats) {
+        out.printf("%-48s %8s %8s %10s %10s %10s%n", "", "count", "errors", "mean ms", "max ms", "mean bytes");
+        stats.entrySet().stream()
+                .sorted(Map.Entry.<String, Stats>comparingByValue(Comparator.comparingLong(s -> s.totalNanos)).reversed())
+                .forEach(entry -> {
+                    Stats s = entry.getValue();
+                    out.printf("%-48s %8d %8d %10.2f %10.2f %10s%n",
+                            entry.getKey(), s.count, s.errors,
+                            s.totalNanos / 1e6 / s.count, s.maxNanos / 1e6,
+                            s.sizedCount > 0 ? String.valueOf(s.totalBytes / s.sizedCount) : "-");
+                });
+    }
+
+    private static Stats stats(Map<String, Stats> stats, String key) {
+        return stats.computeIfAbsent(key, k -> new Stats());
+    }
+
+    private static final class Stats {
+        private long count;
+        private long errors;
+        private long totalNanos;
+        private long maxNanos;
+        private long totalBytes;
+        private long sizedCount;
+
+        private void add(long nanos, long bytes, boolean error) {
+            count++;
+            if (error) {
+                errors++;
+            }
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            // -1 when the body went through the writer and was not counted
+            if (bytes >= 0) {
+                totalBytes += bytes;
+                sizedCount++;
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.base.utility.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One HTTP request, from {@code RequestCorrelationFilter} entering the chain until the response is
+ * complete. The event's start time and duration mark the request start and end.
+ */
+@Name(RequestEvent.NAME)
+@Label("HTTP Request")
+@Description("Request passed through RequestCorrelationFilter")
+@Category({"Base Utility", "HTTP"})
+@StackTrace(false)
+public class RequestEvent extends Event {
+    public static final String NAME = "com.base.utility.Request";
+
+    @Label("Request ID")
+    String requestId;
+
+    @Label("Method")
+    String method;
+
+    @Label("Route")
+    @Description("Matched handler pattern, or null when no handler matched")
+    String route;
+
+    @Label("Status")
+    int status;
+
+    @Label("Response Size")
+    @Description("Bytes written to the response output stream, -1 when the body was written through the writer")
+    @DataAmount
+    long responseSize;
+}
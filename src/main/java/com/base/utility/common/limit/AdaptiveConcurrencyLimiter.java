@@ -0,0 +1,118 @@
+package com.base.utility.common.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency limit that adapts to observed latency using a gradient in the style of Netflix's
+ * Gradient2: the ratio of long-term to short-term average round-trip time shrinks the limit when
+ * latency rises above its baseline and lets it grow (by {@code queueSize}) while latency is stable.
+ * <p>
+ * All state is atomic. Samples are accumulated per window with {@link LongAdder}s and the thread
+ * that closes a window, chosen by CAS, recomputes the limit, so the request path never blocks.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private final int minLimit;
+    private final int maxLimit;
+    private final int queueSize;
+    private final double smoothing;
+    private final int windowSize;
+    private final long windowNanos;
+    private final double longWindowFactor;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+    private volatile double estimatedLimit;
+    private volatile double longRttNanos = -1;
+
+    private final LongAdder windowRttSum = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int queueSize,
+                                      double smoothing, int windowSize, long windowNanos, int longWindow) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.queueSize = queueSize;
+        this.smoothing = smoothing;
+        this.windowSize = windowSize;
+        this.windowNanos = windowNanos;
+        this.longWindowFactor = 2.0 / (longWindow + 1);
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    /**
+     * Claims a slot; returns {@code false} when the current limit is reached. Every successful call
+     * must be paired with {@link #release(long)}.
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+
+        int max;
+        while (current + 1 > (max = windowMaxInFlight.get())
+                && !windowMaxInFlight.compareAndSet(max, current + 1)) {
+            // retry until the window maximum reflects this request
+        }
+        return true;
+    }
+
+    public void release(long rttNanos) {
+        inFlight.decrementAndGet();
+        windowRttSum.add(rttNanos);
+        windowSamples.increment();
+
+        long start = windowStart.get();
+        long now = System.nanoTime();
+        if ((windowSamples.sum() >= windowSize || now - start >= windowNanos) && windowStart.compareAndSet(start, now)) {
+            long samples = windowSamples.sumThenReset();
+            long rttSum = windowRttSum.sumThenReset();
+            int maxInFlight = windowMaxInFlight.getAndSet(inFlight.get());
+            if (samples > 0) {
+                update((double) rttSum / samples, maxInFlight);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    // Only the thread that closed the window gets here, so the volatile fields have a single writer
+    private void update(double shortRttNanos, int maxInFlight) {
+        double longRtt = longRttNanos < 0 ? shortRttNanos : longRttNanos;
+        // Let the baseline drift back down quickly once a latency spike is over
+        if (longRtt / shortRttNanos > 2) {
+            longRtt *= 0.95;
+        }
+        longRtt += (shortRttNanos - longRtt) * longWindowFactor;
+        longRttNanos = longRtt;
+
+        double current = estimatedLimit;
+        // Do not grow the limit while the application is not using half of it
+        if (maxInFlight < current / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, longRtt / shortRttNanos));
+        double newLimit = current * gradient + queueSize;
+        newLimit = current * (1 - smoothing) + newLimit * smoothing;
+        newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        estimatedLimit = newLimit;
+        limit = (int) newLimit;
+    }
+}
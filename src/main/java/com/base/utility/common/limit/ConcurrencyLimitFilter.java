@@ -0,0 +1,130 @@
+package com.base.utility.common.limit;
+
+import com.base.utility.common.autoconfigure.BaseUtilityProperties;
+import com.base.utility.common.filters.ErrorResponseWriter;
+import com.base.utility.exception.response.ErrorBodyTemplate;
+import com.base.utility.exception.utils.ErrorCode;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sheds load once a route group reaches its adaptive concurrency limit, answering immediately with
+ * {@code 429} and {@link ErrorCode#TOO_MANY_REQUESTS} instead of queueing in the container. Each
+ * route group has its own {@link AdaptiveConcurrencyLimiter}; requests matching no group use the
+ * default one.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final List<RouteGroup> groups = new ArrayList<>();
+    private final AdaptiveConcurrencyLimiter defaultLimiter;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(BaseUtilityProperties.ConcurrencyLimit properties) {
+        this.defaultLimiter = createLimiter(properties);
+        for (Map.Entry<String, BaseUtilityProperties.ConcurrencyLimitGroup> entry : properties.getGroups().entrySet()) {
+            BaseUtilityProperties.ConcurrencyLimitGroup group = entry.getValue();
+            groups.add(new RouteGroup(entry.getKey(), group.getPathPatterns(), createLimiter(group)));
+        }
+        this.retryAfterSeconds = String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request
+            , HttpServletResponse response
+            , FilterChain filterChain) throws ServletException, IOException {
+        // Without the context path, decoded and without ;jsessionid, like the handler mappings see it
+        AdaptiveConcurrencyLimiter limiter = limiterFor(UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+        if (!limiter.tryAcquire()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            ErrorResponseWriter.write(response, HttpStatus.TOO_MANY_REQUESTS, ErrorBodyTemplate.of(ErrorCode.TOO_MANY_REQUESTS));
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                async = true;
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(limiter, start));
+            }
+        } finally {
+            if (!async) {
+                limiter.release(System.nanoTime() - start);
+            }
+        }
+    }
+
+    public Map<String, Integer> currentLimits() {
+        Map<String, Integer> limits = new LinkedHashMap<>();
+        limits.put("default", defaultLimiter.getLimit());
+        groups.forEach(group -> limits.put(group.name(), group.limiter().getLimit()));
+        return limits;
+    }
+
+    private AdaptiveConcurrencyLimiter limiterFor(String path) {
+        for (RouteGroup group : groups) {
+            for (String pattern : group.pathPatterns()) {
+                if (PATH_MATCHER.match(pattern, path)) {
+                    return group.limiter();
+                }
+            }
+        }
+        return defaultLimiter;
+    }
+
+    private static AdaptiveConcurrencyLimiter createLimiter(BaseUtilityProperties.ConcurrencyLimitSettings settings) {
+        Duration window = settings.getWindow();
+        return new AdaptiveConcurrencyLimiter(
+                settings.getInitialLimit(),
+                settings.getMinLimit(),
+                settings.getMaxLimit(),
+                settings.getQueueSize(),
+                settings.getSmoothing(),
+                settings.getWindowSize(),
+                window.toNanos(),
+                settings.getLongWindow());
+    }
+
+    private record RouteGroup(String name, List<String> pathPatterns, AdaptiveConcurrencyLimiter limiter) {
+    }
+
+    private record ReleaseOnCompletion(AdaptiveConcurrencyLimiter limiter, long start) implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limiter.release(System.nanoTime() - start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // onComplete follows
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // onComplete follows
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.base.utility.common.metrics;
+
+import com.base.utility.exception.utils.ErrorCode;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Counts error responses produced by {@code GlobalExceptionHandler} by {@link ErrorCode}, exception
+ * class and HTTP status. Counters are {@link LongAdder}s looked up by ordinal, status or class, so
+ * recording does not allocate once an exception class has been seen.
+ */
+public class ErrorMetrics {
+    private static final int MAX_STATUS = 600;
+
+    private final LongAdder[] byErrorCode;
+    private final AtomicReferenceArray<LongAdder> byStatus = new AtomicReferenceArray<>(MAX_STATUS);
+    private final Map<Class<?>, LongAdder> byExceptionClass = new ConcurrentHashMap<>();
+    private volatile BiConsumer<Class<?>, LongAdder> exceptionClassListener;
+    private volatile BiConsumer<Integer, LongAdder> statusListener;
+
+    public ErrorMetrics() {
+        ErrorCode[] codes = ErrorCode.values();
+        byErrorCode = new LongAdder[codes.length];
+        for (ErrorCode code : codes) {
+            byErrorCode[code.ordinal()] = new LongAdder();
+        }
+    }
+
+    public void record(ErrorCode errorCode, Class<?> exceptionClass, int status) {
+        if (errorCode != null) {
+            byErrorCode[errorCode.ordinal()].increment();
+        }
+        if (exceptionClass != null) {
+            LongAdder counter = byExceptionClass.get(exceptionClass);
+            if (counter == null) {
+                counter = byExceptionClass.computeIfAbsent(exceptionClass, this::newExceptionClassCounter);
+            }
+            counter.increment();
+        }
+        if (status >= 0 && status < MAX_STATUS) {
+            LongAdder counter = byStatus.get(status);
+            if (counter == null) {
+                counter = newStatusCounter(status);
+            }
+            counter.increment();
+        }
+    }
+
+    public LongAdder counter(ErrorCode errorCode) {
+        return byErrorCode[errorCode.ordinal()];
+    }
+
+    public ErrorMetricsSnapshot snapshot() {
+        Map<ErrorCode, Long> codes = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode code : ErrorCode.values()) {
+            long count = byErrorCode[code.ordinal()].sum();
+            if (count > 0) {
+                codes.put(code, count);
+            }
+        }
+        Map<String, Long> exceptions = new HashMap<>();
+        byExceptionClass.forEach((type, counter) -> exceptions.put(type.getName(), counter.sum()));
+        Map<Integer, Long> statuses = new HashMap<>();
+        for (int status = 0; status < MAX_STATUS; status++) {
+            LongAdder counter = byStatus.get(status);
+            if (counter != null) {
+                statuses.put(status, counter.sum());
+            }
+        }
+        return new ErrorMetricsSnapshot(
+                Collections.unmodifiableMap(codes),
+                Collections.unmodifiableMap(exceptions),
+                Collections.unmodifiableMap(statuses));
+    }
+
+    // Invoked for every counter created so far and for each one created afterwards
+    public void onNewExceptionClass(BiConsumer<Class<?>, LongAdder> listener) {
+        this.exceptionClassListener = listener;
+        byExceptionClass.forEach(listener);
+    }
+
+    public void onNewStatus(BiConsumer<Integer, LongAdder> listener) {
+        this.statusListener = listener;
+        for (int status = 0; status < MAX_STATUS; status++) {
+            LongAdder counter = byStatus.get(status);
+            if (counter != null) {
+                listener.accept(status, counter);
+            }
+        }
+    }
+
+    private LongAdder newExceptionClassCounter(Class<?> exceptionClass) {
+        LongAdder counter = new LongAdder();
+        BiConsumer<Class<?>, LongAdder> listener = exceptionClassListener;
+        if (listener != null) {
+            listener.accept(exceptionClass, counter);
+        }
+        return counter;
+    }
+
+    private synchronized LongAdder newStatusCounter(int status) {
+        // Slow path, taken once per distinct status
+        LongAdder counter = byStatus.get(status);
+        if (counter == null) {
+            counter = new LongAdder();
+            byStatus.set(status, counter);
+            BiConsumer<Integer, LongAdder> listener = statusListener;
+            if (listener != null) {
+                listener.accept(status, counter);
+            }
+        }
+        return counter;
+    }
+
+    public record ErrorMetricsSnapshot(Map<ErrorCode, Long> byErrorCode,
+                                       Map<String, Long> byExceptionClass,
+                                       Map<Integer, Long> byStatus) {
+    }
+}
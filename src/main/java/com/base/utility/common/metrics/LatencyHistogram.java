@@ -0,0 +1,188 @@
+package com.base.utility.common.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-memory latency histogram with log-linear buckets in the style of HdrHistogram: each
+ * power-of-two range of microseconds is split into {@value #SUB_BUCKETS} linear sub-buckets, which
+ * bounds the relative error of reported percentiles to about 12.5%. Values above ~19 hours land in
+ * the last bucket. Recording is a handful of atomic increments and never allocates.
+ * <p>
+ * Count and total time are cumulative, as Micrometer expects of a timer. Percentiles and the maximum
+ * describe a sliding window instead: recordings go to the newest of {@value #SLICES} rotating slices,
+ * each covering a fraction of the window, and the oldest one is cleared when a new slice starts.
+ * Reported values therefore cover between the last {@code (SLICES - 1) / SLICES} of the window and
+ * all of it, so a past spike stops dominating them once the window has passed.
+ */
+public class LatencyHistogram {
+    public static final Duration DEFAULT_WINDOW = Duration.ofMinutes(2);
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_MAGNITUDE = 36;
+    private static final int BUCKET_COUNT = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+    private static final int SLICES = 4;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final Slice[] slices = new Slice[SLICES];
+    private final long sliceNanos;
+    private volatile int current;
+    private volatile long sliceStart;
+
+    public LatencyHistogram() {
+        this(DEFAULT_WINDOW);
+    }
+
+    public LatencyHistogram(Duration window) {
+        for (int i = 0; i < SLICES; i++) {
+            slices[i] = new Slice();
+        }
+        this.sliceNanos = Math.max(1, window.toNanos() / SLICES);
+        this.sliceStart = System.nanoTime();
+    }
+
+    public void record(long durationNanos) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(durationNanos));
+        count.increment();
+        totalMicros.add(micros);
+        rotateIfDue(System.nanoTime());
+        slices[current].record(micros);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getTotalMillis() {
+        return totalMicros.sum() / 1000.0;
+    }
+
+    // Largest latency recorded within the window
+    public double getMaxMillis() {
+        rotateIfDue(System.nanoTime());
+        return windowMaxMicros() / 1000.0;
+    }
+
+    /**
+     * Upper bound, in milliseconds, of the bucket holding the given quantile (0.0 - 1.0) of the
+     * latencies recorded within the window. Concurrent recordings may be partially reflected.
+     */
+    public double percentileMillis(double quantile) {
+        rotateIfDue(System.nanoTime());
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (Slice slice : slices) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                long bucket = slice.buckets.get(i);
+                counts[i] += bucket;
+                total += bucket;
+            }
+        }
+        if (total == 0) {
+            return 0.0;
+        }
+        long max = windowMaxMicros();
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), max) / 1000.0;
+            }
+        }
+        return max / 1000.0;
+    }
+
+    public HistogramSnapshot snapshot() {
+        long snapshotCount = getCount();
+        return new HistogramSnapshot(
+                snapshotCount,
+                snapshotCount == 0 ? 0.0 : getTotalMillis() / snapshotCount,
+                percentileMillis(0.50),
+                percentileMillis(0.90),
+                percentileMillis(0.99),
+                getMaxMillis());
+    }
+
+    private long windowMaxMicros() {
+        long max = 0;
+        for (Slice slice : slices) {
+            max = Math.max(max, slice.maxMicros.get());
+        }
+        return max;
+    }
+
+    private void rotateIfDue(long now) {
+        if (now - sliceStart >= sliceNanos) {
+            rotate(now);
+        }
+    }
+
+    private synchronized void rotate(long now) {
+        long elapsed = now - sliceStart;
+        if (elapsed < sliceNanos) {
+            return;
+        }
+        long due = elapsed / sliceNanos;
+        int index = current;
+        for (long i = 0; i < Math.min(due, SLICES); i++) {
+            index = (index + 1) % SLICES;
+            // Cleared before it becomes current; recordings racing with the rotation may be lost
+            slices[index].clear();
+        }
+        current = index;
+        sliceStart += due * sliceNanos;
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(micros);
+        if (magnitude > MAX_MAGNITUDE) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (micros >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int magnitude = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKETS;
+        long width = 1L << (magnitude - SUB_BUCKET_BITS);
+        return (1L << magnitude) + (subBucket + 1) * width - 1;
+    }
+
+    private static final class Slice {
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+        private final AtomicLong maxMicros = new AtomicLong();
+
+        void record(long micros) {
+            buckets.incrementAndGet(bucketIndex(micros));
+            long max;
+            while (micros > (max = maxMicros.get()) && !maxMicros.compareAndSet(max, micros)) {
+                // retry until our value is recorded or a larger one wins
+            }
+        }
+
+        void clear() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets.set(i, 0);
+            }
+            maxMicros.set(0);
+        }
+    }
+
+    // Count and mean are cumulative; percentiles and the maximum cover the window
+    public record HistogramSnapshot(long count, double meanMillis, double p50Millis,
+                                    double p90Millis, double p99Millis, double maxMillis) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.base.utility.common.metrics;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Per-route request latency recorded by {@code RequestCorrelationFilter}. Routes are the matched
+ * handler patterns, so their number is bounded by the application's mappings; anything beyond
+ * {@code maxRoutes} is folded into {@link #OVERFLOW_ROUTE} to keep memory fixed.
+ */
+public class RequestMetrics {
+    public static final String UNMAPPED_ROUTE = "UNMAPPED";
+    public static final String OVERFLOW_ROUTE = "OTHER";
+
+    private final int maxRoutes;
+    private final Duration window;
+    private final Map<String, LatencyHistogram> byRoute = new ConcurrentHashMap<>();
+    private volatile BiConsumer<String, LatencyHistogram> routeListener;
+
+    public RequestMetrics(int maxRoutes) {
+        this(maxRoutes, LatencyHistogram.DEFAULT_WINDOW);
+    }
+
+    public RequestMetrics(int maxRoutes, Duration window) {
+        this.maxRoutes = maxRoutes;
+        this.window = window;
+    }
+
+    public void record(String route, long durationNanos) {
+        String key = route != null ? route : UNMAPPED_ROUTE;
+        LatencyHistogram histogram = byRoute.get(key);
+        if (histogram == null) {
+            histogram = byRoute.size() < maxRoutes
+                    ? byRoute.computeIfAbsent(key, this::newHistogram)
+                    : byRoute.computeIfAbsent(OVERFLOW_ROUTE, this::newHistogram);
+        }
+        histogram.record(durationNanos);
+    }
+
+    public LatencyHistogram histogram(String route) {
+        return byRoute.get(route);
+    }
+
+    public Map<String, LatencyHistogram.HistogramSnapshot> snapshot() {
+        Map<String, LatencyHistogram.HistogramSnapshot> snapshot = new HashMap<>();
+        byRoute.forEach((route, histogram) -> snapshot.put(route, histogram.snapshot()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    // Invoked for every route recorded so far and for each one recorded afterwards
+    public void onNewRoute(BiConsumer<String, LatencyHistogram> listener) {
+        this.routeListener = listener;
+        byRoute.forEach(listener);
+    }
+
+    private LatencyHistogram newHistogram(String route) {
+        LatencyHistogram histogram = new LatencyHistogram(window);
+        BiConsumer<String, LatencyHistogram> listener = routeListener;
+        if (listener != null) {
+            listener.accept(route, histogram);
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,75 @@
+package com.base.utility.common.metrics;
+
+import com.base.utility.exception.utils.ErrorCode;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes {@link ErrorMetrics} and {@link RequestMetrics} to Micrometer. Meters read the
+ * in-process counters when scraped, so the request path never touches the registry.
+ */
+public class UtilityMeterBinder implements MeterBinder {
+    private final ErrorMetrics errorMetrics;
+    private final RequestMetrics requestMetrics;
+
+    public UtilityMeterBinder(ErrorMetrics errorMetrics, RequestMetrics requestMetrics) {
+        this.errorMetrics = errorMetrics;
+        this.requestMetrics = requestMetrics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (errorMetrics != null) {
+            for (ErrorCode code : ErrorCode.values()) {
+                FunctionCounter.builder("base.utility.errors", errorMetrics.counter(code), LongAdder::sum)
+                        .description("Error responses by error code")
+                        .tag("code", code.getCode())
+                        .tag("name", code.name())
+                        .register(registry);
+            }
+            errorMetrics.onNewExceptionClass((type, counter) ->
+                    FunctionCounter.builder("base.utility.errors.exceptions", counter, LongAdder::sum)
+                            .description("Handled exceptions by class")
+                            .tag("exception", type.getName())
+                            .register(registry));
+            errorMetrics.onNewStatus((status, counter) ->
+                    FunctionCounter.builder("base.utility.errors.status", counter, LongAdder::sum)
+                            .description("Error responses by HTTP status")
+                            .tag("status", String.valueOf(status))
+                            .register(registry));
+        }
+        if (requestMetrics != null) {
+            requestMetrics.onNewRoute((route, histogram) -> bindRoute(registry, route, histogram));
+        }
+    }
+
+    private static void bindRoute(MeterRegistry registry, String route, LatencyHistogram histogram) {
+        FunctionTimer.builder("base.utility.requests", histogram,
+                        LatencyHistogram::getCount, LatencyHistogram::getTotalMillis, TimeUnit.MILLISECONDS)
+                .description("Request latency by route")
+                .tag("route", route)
+                .register(registry);
+        bindPercentile(registry, route, histogram, "0.5", 0.50);
+        bindPercentile(registry, route, histogram, "0.9", 0.90);
+        bindPercentile(registry, route, histogram, "0.99", 0.99);
+        Gauge.builder("base.utility.requests.max", histogram, LatencyHistogram::getMaxMillis)
+                .description("Maximum request latency by route in milliseconds over the percentile window")
+                .tag("route", route)
+                .register(registry);
+    }
+
+    private static void bindPercentile(MeterRegistry registry, String route, LatencyHistogram histogram,
+                                       String tag, double quantile) {
+        Gauge.builder("base.utility.requests.percentile", histogram, h -> h.percentileMillis(quantile))
+                .description("Request latency percentile by route in milliseconds over the percentile window")
+                .tag("route", route)
+                .tag("quantile", tag)
+                .register(registry);
+    }
+}
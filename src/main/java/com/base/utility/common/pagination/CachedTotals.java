@@ -0,0 +1,95 @@
+package com.base.utility.common.pagination;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches expensive {@code COUNT(*)} results per key for a fixed time. Once an entry expires, the
+ * first caller recounts while concurrent callers keep getting the previous total, so a popular
+ * listing never triggers more than one recount at a time; only requests racing for a key that is
+ * not cached yet may each count it. Totals served from here are approximate and should be reported
+ * with {@code totalEstimated}. When {@code maxEntries} keys are cached, expired entries are evicted
+ * to make room; until one expires, new keys are counted uncached.
+ */
+public class CachedTotals {
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    // No entry expires before this, so a full cache is not rescanned on every miss
+    private volatile long nextExpiry;
+
+    public CachedTotals(Duration ttl, int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.nextExpiry = System.nanoTime();
+    }
+
+    public long get(String key, LongSupplier counter) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            if (entries.size() >= maxEntries && !evictExpired()) {
+                return counter.getAsLong();
+            }
+            // Counted outside the map: inside computeIfAbsent a slow COUNT would block other keys in the same bin
+            Entry counted = new Entry(counter.getAsLong(), System.nanoTime());
+            entries.putIfAbsent(key, counted);
+            return counted.total;
+        }
+        if (System.nanoTime() - entry.countedAt >= ttlNanos && entry.refreshing.compareAndSet(false, true)) {
+            try {
+                Entry refreshed = new Entry(counter.getAsLong(), System.nanoTime());
+                entries.put(key, refreshed);
+                return refreshed.total;
+            } finally {
+                entry.refreshing.set(false);
+            }
+        }
+        return entry.total;
+    }
+
+    private boolean evictExpired() {
+        long now = System.nanoTime();
+        if (now - nextExpiry < 0 || !sweeping.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            long oldest = now;
+            for (Iterator<Entry> iterator = entries.values().iterator(); iterator.hasNext(); ) {
+                long countedAt = iterator.next().countedAt;
+                if (now - countedAt >= ttlNanos) {
+                    iterator.remove();
+                } else if (countedAt - oldest < 0) {
+                    oldest = countedAt;
+                }
+            }
+            nextExpiry = oldest + ttlNanos;
+            return entries.size() < maxEntries;
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    public void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private static final class Entry {
+        private final long total;
+        private final long countedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(long total, long countedAt) {
+            this.total = total;
+            this.countedAt = countedAt;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.base.utility.common.pagination;
+
+import com.base.utility.exception.response.ApiResponse;
+import com.base.utility.exception.response.MetaData;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Builds {@link ApiResponse} envelopes from Spring Data results without requiring a total count.
+ * A {@link Slice} reports {@code page}, {@code size} and {@code hasNext}; a {@link Window} reports
+ * {@code hasNext} and a {@code nextCursor} encoded with {@link ScrollCursors}. Totals are only
+ * included when the caller supplies one, typically from {@link CachedTotals}.
+ * <p>
+ * Kept apart from {@link ApiResponse} so that Spring Data stays an optional dependency.
+ */
+public final class PaginatedResponses {
+
+    private PaginatedResponses() {
+    }
+
+    public static <T> ApiResponse<List<T>> slice(Slice<T> slice, String requestId) {
+        return slice(slice, requestId, null, false);
+    }
+
+    public static <T> ApiResponse<List<T>> slice(Slice<T> slice, String requestId, Long total, boolean estimated) {
+        return success(slice.getContent(), MetaData.builder()
+                .requestId(requestId)
+                .timestamp(Instant.now())
+                .page(slice.getNumber())
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .total(total)
+                .totalEstimated(total != null && estimated ? Boolean.TRUE : null)
+                .build());
+    }
+
+    // Page already carries an exact total; use slice() with a cached total to avoid the count query
+    public static <T> ApiResponse<List<T>> page(Page<T> page, String requestId) {
+        return slice(page, requestId, page.getTotalElements(), false);
+    }
+
+    public static <T> ApiResponse<List<T>> window(Window<T> window, String requestId) {
+        return window(window, requestId, null, false);
+    }
+
+    public static <T> ApiResponse<List<T>> window(Window<T> window, String requestId, Long total, boolean estimated) {
+        boolean hasNext = window.hasNext() && !window.isEmpty();
+        return success(window.getContent(), MetaData.builder()
+                .requestId(requestId)
+                .timestamp(Instant.now())
+                .size(window.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? ScrollCursors.encode(window.positionAt(window.size() - 1)) : null)
+                .total(total)
+                .totalEstimated(total != null && estimated ? Boolean.TRUE : null)
+                .build());
+    }
+
+    private static <T> ApiResponse<List<T>> success(List<T> content, MetaData meta) {
+        return ApiResponse.<List<T>>builder()
+                .status("success")
+                .data(content)
+                .meta(meta)
+                .build();
+    }
+}
@@ -0,0 +1,121 @@
+package com.base.utility.common.pagination;
+
+import com.base.utility.exception.type.ValidationException;
+import com.base.utility.exception.utils.ErrorCode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Encodes a {@link ScrollPosition} as an opaque, URL-safe cursor and back. Keyset values keep their
+ * Java type so the decoded position binds to the same query parameters; supported key types are
+ * strings, numbers, booleans, UUIDs and the common {@code java.time} types.
+ */
+public final class ScrollCursors {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final int MAX_CURSOR_LENGTH = 4096;
+    private static final Map<Class<?>, String> TYPES = Map.ofEntries(
+            Map.entry(String.class, "S"),
+            Map.entry(Long.class, "L"),
+            Map.entry(Integer.class, "I"),
+            Map.entry(BigDecimal.class, "N"),
+            Map.entry(Double.class, "D"),
+            Map.entry(Boolean.class, "B"),
+            Map.entry(UUID.class, "U"),
+            Map.entry(Instant.class, "T"),
+            Map.entry(LocalDate.class, "LD"),
+            Map.entry(LocalDateTime.class, "LDT"),
+            Map.entry(OffsetDateTime.class, "ODT"));
+
+    private ScrollCursors() {
+    }
+
+    public static String encode(ScrollPosition position) {
+        ObjectNode node = MAPPER.createObjectNode();
+        if (position instanceof OffsetScrollPosition offset) {
+            node.put("o", offset.getOffset());
+        } else if (position instanceof KeysetScrollPosition keyset) {
+            node.put("d", keyset.scrollsForward() ? "f" : "b");
+            ArrayNode keys = node.putArray("k");
+            keyset.getKeys().forEach((name, value) -> keys.addArray()
+                    .add(name)
+                    .add(typeOf(name, value))
+                    .add(value.toString()));
+        } else {
+            throw new IllegalArgumentException("Unsupported scroll position: " + position);
+        }
+        try {
+            return ENCODER.encodeToString(MAPPER.writeValueAsBytes(node));
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    // A missing cursor starts from the given initial position
+    public static ScrollPosition decode(String cursor, ScrollPosition initial) {
+        if (cursor == null || cursor.isBlank()) {
+            return initial;
+        }
+        try {
+            if (cursor.length() > MAX_CURSOR_LENGTH) {
+                throw new IllegalArgumentException("Cursor too long");
+            }
+            JsonNode node = MAPPER.readTree(DECODER.decode(cursor));
+            if (node.has("o")) {
+                return ScrollPosition.offset(node.get("o").asLong());
+            }
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (JsonNode key : node.withArray("k")) {
+                keys.put(key.get(0).asText(), parse(key.get(1).asText(), key.get(2).asText()));
+            }
+            return "b".equals(node.path("d").asText())
+                    ? ScrollPosition.backward(keys)
+                    : ScrollPosition.forward(keys);
+        } catch (IOException | RuntimeException ex) {
+            throw new ValidationException(ErrorCode.INVALID_FIELD_FORMAT, "Invalid pagination cursor", null);
+        }
+    }
+
+    private static String typeOf(String name, Object value) {
+        String type = value != null ? TYPES.get(value.getClass()) : null;
+        if (type == null) {
+            throw new IllegalArgumentException("Unsupported keyset value type for '" + name + "': "
+                    + (value == null ? "null" : value.getClass().getName()));
+        }
+        return type;
+    }
+
+    private static Object parse(String type, String value) {
+        return switch (type) {
+            case "S" -> value;
+            case "L" -> Long.valueOf(value);
+            case "I" -> Integer.valueOf(value);
+            case "N" -> new BigDecimal(value);
+            case "D" -> Double.valueOf(value);
+            case "B" -> Boolean.valueOf(value);
+            case "U" -> UUID.fromString(value);
+            case "T" -> Instant.parse(value);
+            case "LD" -> LocalDate.parse(value);
+            case "LDT" -> LocalDateTime.parse(value);
+            case "ODT" -> OffsetDateTime.parse(value);
+            default -> throw new IllegalArgumentException("Unknown key type " + type);
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package com.base.utility.common.parsing;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+import lombok.Getter;
+
+// A StreamConstraintsException so that Jackson propagates it like its own constraint violations
+@Getter
+public class ArrayElementLimitException extends StreamConstraintsException {
+    private final int maxElements;
+
+    public ArrayElementLimitException(int maxElements, JsonLocation location) {
+        super(String.format("Array element count exceeds the maximum allowed (%d)", maxElements), location);
+        this.maxElements = maxElements;
+    }
+}
@@ -0,0 +1,102 @@
+package com.base.utility.common.parsing;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Fails as soon as an array reaches one element more than allowed, which {@code StreamReadConstraints}
+ * has no setting for. Elements are counted per nesting depth rather than taken from the parsing context,
+ * as binary parsers such as Smile's do not track entry counts; skipped subtrees are never counted.
+ */
+final class ArrayLimitingParser extends JsonParserDelegate {
+    private final int maxElements;
+    // Elements seen so far in the array open at each nesting depth
+    private int[] counts = new int[8];
+
+    ArrayLimitingParser(JsonParser delegate, int maxElements) {
+        super(delegate);
+        this.maxElements = maxElements;
+    }
+
+    // Non-positive limits and parsers that already are limited are returned as is
+    static JsonParser wrap(JsonParser parser, int maxElements) {
+        if (maxElements <= 0 || parser instanceof ArrayLimitingParser) {
+            return parser;
+        }
+        return new ArrayLimitingParser(parser, maxElements);
+    }
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+        return check(delegate.nextToken());
+    }
+
+    @Override
+    public JsonToken nextValue() throws IOException {
+        return check(delegate.nextValue());
+    }
+
+    // The typed variants are overridden as well since collection deserializers call them directly
+
+    @Override
+    public String nextTextValue() throws IOException {
+        String value = delegate.nextTextValue();
+        check(delegate.currentToken());
+        return value;
+    }
+
+    @Override
+    public int nextIntValue(int defaultValue) throws IOException {
+        int value = delegate.nextIntValue(defaultValue);
+        check(delegate.currentToken());
+        return value;
+    }
+
+    @Override
+    public long nextLongValue(long defaultValue) throws IOException {
+        long value = delegate.nextLongValue(defaultValue);
+        check(delegate.currentToken());
+        return value;
+    }
+
+    @Override
+    public Boolean nextBooleanValue() throws IOException {
+        Boolean value = delegate.nextBooleanValue();
+        check(delegate.currentToken());
+        return value;
+    }
+
+    private JsonToken check(JsonToken token) throws IOException {
+        if (token == null || token.isStructEnd() || token == JsonToken.NOT_AVAILABLE) {
+            return token;
+        }
+        JsonStreamContext context = delegate.getParsingContext();
+        // A new object or array opens its own context; it is an element of the parent
+        if (token.isStructStart()) {
+            if (token == JsonToken.START_ARRAY) {
+                capacity(context.getNestingDepth());
+                counts[context.getNestingDepth()] = 0;
+            }
+            context = context.getParent();
+        }
+        if (context != null && context.inArray()) {
+            int depth = context.getNestingDepth();
+            capacity(depth);
+            if (++counts[depth] > maxElements) {
+                throw new ArrayElementLimitException(maxElements, delegate.currentLocation());
+            }
+        }
+        return token;
+    }
+
+    private void capacity(int depth) {
+        if (depth >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(depth + 1, counts.length * 2));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.base.utility.common.parsing;
+
+import com.fasterxml.jackson.core.FormatSchema;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.InjectableValues;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.DataFormatReaders;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+/**
+ * Reader that applies the array limit to the parsers it creates itself, for factories such as Smile's
+ * and CBOR's whose parser types cannot be wrapped by the factory. Derived readers, e.g. from
+ * {@code forType} or {@code withView}, keep the limit.
+ */
+final class ArrayLimitingReader extends ObjectReader {
+    private final int maxElements;
+
+    ArrayLimitingReader(ObjectMapper mapper, DeserializationConfig config, int maxElements) {
+        super(mapper, config);
+        this.maxElements = maxElements;
+    }
+
+    ArrayLimitingReader(ObjectMapper mapper, DeserializationConfig config, JavaType valueType,
+                        Object valueToUpdate, FormatSchema schema, InjectableValues injectableValues,
+                        int maxElements) {
+        super(mapper, config, valueType, valueToUpdate, schema, injectableValues);
+        this.maxElements = maxElements;
+    }
+
+    private ArrayLimitingReader(ArrayLimitingReader base, JsonFactory factory) {
+        super(base, factory);
+        this.maxElements = base.maxElements;
+    }
+
+    private ArrayLimitingReader(ArrayLimitingReader base, DeserializationConfig config) {
+        super(base, config);
+        this.maxElements = base.maxElements;
+    }
+
+    private ArrayLimitingReader(ArrayLimitingReader base, DeserializationConfig config, JavaType valueType,
+                                JsonDeserializer<Object> rootDeserializer, Object valueToUpdate,
+                                FormatSchema schema, InjectableValues injectableValues,
+                                DataFormatReaders dataFormatReaders) {
+        super(base, config, valueType, rootDeserializer, valueToUpdate, schema, injectableValues, dataFormatReaders);
+        this.maxElements = base.maxElements;
+    }
+
+    // ObjectReader passes itself as base to every _new variant
+
+    @Override
+    protected ObjectReader _new(ObjectReader base, JsonFactory factory) {
+        return new ArrayLimitingReader((ArrayLimitingReader) base, factory);
+    }
+
+    @Override
+    protected ObjectReader _new(ObjectReader base, DeserializationConfig config) {
+        return new ArrayLimitingReader((ArrayLimitingReader) base, config);
+    }
+
+    @Override
+    protected ObjectReader _new(ObjectReader base, DeserializationConfig config, JavaType valueType,
+                                JsonDeserializer<Object> rootDeserializer, Object valueToUpdate,
+                                FormatSchema schema, InjectableValues injectableValues,
+                                DataFormatReaders dataFormatReaders) {
+        return new ArrayLimitingReader((ArrayLimitingReader) base, config, valueType, rootDeserializer,
+                valueToUpdate, schema, injectableValues, dataFormatReaders);
+    }
+
+    @Override
+    public JsonParser createParser(InputStream in) throws IOException {
+        return ArrayLimitingParser.wrap(super.createParser(in), maxElements);
+    }
+
+    @Override
+    public JsonParser createParser(Reader r) throws IOException {
+        return ArrayLimitingParser.wrap(super.createParser(r), maxElements);
+    }
+
+    @Override
+    public JsonParser createParser(byte[] content) throws IOException {
+        return ArrayLimitingParser.wrap(super.createParser(content), maxElements);
+    }
+
+    @Override
+    public JsonParser createParser(byte[] content, int offset, int len) throws IOException {
+        return ArrayLimitingParser.wrap(super.createParser(content, offset, len), maxElements);
+    }
+
+    @Override
+    public JsonParser createParser(String content) throws IOException {
+        return ArrayLimitingParser.wrap(super.createParser(content), maxElements);
+    }
+}
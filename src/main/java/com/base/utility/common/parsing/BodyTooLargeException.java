@@ -0,0 +1,22 @@
+package com.base.utility.common.parsing;
+
+import lombok.Getter;
+
+import java.io.IOException;
+
+// Thrown by the request body stream, where converters report IOExceptions as unreadable messages
+@Getter
+public class BodyTooLargeException extends IOException {
+    private final long maxBytes;
+
+    public BodyTooLargeException(long maxBytes) {
+        super("Request body exceeds the maximum allowed size (" + maxBytes + " bytes)");
+        this.maxBytes = maxBytes;
+    }
+
+    // Expected whenever a client sends too much, and the stack would only show the servlet container
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
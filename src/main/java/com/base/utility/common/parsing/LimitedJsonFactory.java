@@ -0,0 +1,94 @@
+package com.base.utility.common.parsing;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.core.io.IOContext;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+/**
+ * JSON factory whose parsers enforce the given {@link StreamReadConstraints} and, when
+ * {@code maxArrayElements} is positive, an upper bound on the elements of any single array.
+ * Both fail while the input is being tokenized, before the rest of the body is read. The
+ * non-blocking parsers used by Spring WebFlux are limited as well.
+ */
+public class LimitedJsonFactory extends JsonFactory {
+    private final int maxArrayElements;
+
+    public LimitedJsonFactory(StreamReadConstraints constraints, int maxArrayElements) {
+        this(new JsonFactory(), constraints, maxArrayElements);
+    }
+
+    // Keeps the features of the given factory, e.g. those set through Spring Boot's spring.jackson.parser.*
+    public LimitedJsonFactory(JsonFactory base, StreamReadConstraints constraints, int maxArrayElements) {
+        super(new JsonFactoryBuilder(base).streamReadConstraints(constraints));
+        this.maxArrayElements = maxArrayElements;
+    }
+
+    protected LimitedJsonFactory(LimitedJsonFactory src, ObjectCodec codec) {
+        super(src, codec);
+        this.maxArrayElements = src.maxArrayElements;
+    }
+
+    public int getMaxArrayElements() {
+        return maxArrayElements;
+    }
+
+    @Override
+    public JsonFactory copy() {
+        _checkInvalidCopy(LimitedJsonFactory.class);
+        return new LimitedJsonFactory(this, null);
+    }
+
+    // JsonFactory names its format only for the class itself, and Spring's codecs rely on the name
+    @Override
+    public String getFormatName() {
+        return FORMAT_NAME_JSON;
+    }
+
+    @Override
+    public JsonParser createNonBlockingByteArrayParser() throws IOException {
+        return limit(super.createNonBlockingByteArrayParser());
+    }
+
+    @Override
+    public JsonParser createNonBlockingByteBufferParser() throws IOException {
+        return limit(super.createNonBlockingByteBufferParser());
+    }
+
+    @Override
+    protected JsonParser _createParser(InputStream in, IOContext ctxt) throws IOException {
+        return limit(super._createParser(in, ctxt));
+    }
+
+    @Override
+    protected JsonParser _createParser(Reader r, IOContext ctxt) throws IOException {
+        return limit(super._createParser(r, ctxt));
+    }
+
+    @Override
+    protected JsonParser _createParser(char[] data, int offset, int len, IOContext ctxt,
+                                       boolean recyclable) throws IOException {
+        return limit(super._createParser(data, offset, len, ctxt, recyclable));
+    }
+
+    @Override
+    protected JsonParser _createParser(byte[] data, int offset, int len, IOContext ctxt) throws IOException {
+        return limit(super._createParser(data, offset, len, ctxt));
+    }
+
+    @Override
+    protected JsonParser _createParser(DataInput input, IOContext ctxt) throws IOException {
+        return limit(super._createParser(input, ctxt));
+    }
+
+    private JsonParser limit(JsonParser parser) {
+        return ArrayLimitingParser.wrap(parser, maxArrayElements);
+    }
+}
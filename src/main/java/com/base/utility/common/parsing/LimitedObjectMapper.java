@@ -0,0 +1,57 @@
+package com.base.utility.common.parsing;
+
+import com.fasterxml.jackson.core.FormatSchema;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.InjectableValues;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Copy of an application's {@link ObjectMapper} for reading request bodies, so that the parsing limits
+ * never apply to the mapper itself, which also reads responses of downstream services and stored data.
+ * Its factory enforces the {@link StreamReadConstraints}; the array limit is enforced by the factory for
+ * JSON and by the mapper's readers for binary formats such as Smile and CBOR.
+ */
+public class LimitedObjectMapper extends ObjectMapper {
+    private final int maxArrayElements;
+
+    public LimitedObjectMapper(ObjectMapper src, StreamReadConstraints constraints, int maxArrayElements) {
+        super(src, limit(src.getFactory(), constraints, maxArrayElements));
+        this.maxArrayElements = maxArrayElements;
+    }
+
+    protected LimitedObjectMapper(LimitedObjectMapper src) {
+        super(src);
+        this.maxArrayElements = src.maxArrayElements;
+    }
+
+    @Override
+    public ObjectMapper copy() {
+        _checkInvalidCopy(LimitedObjectMapper.class);
+        return new LimitedObjectMapper(this);
+    }
+
+    @Override
+    protected ObjectReader _newReader(DeserializationConfig config) {
+        return new ArrayLimitingReader(this, config, maxArrayElements);
+    }
+
+    @Override
+    protected ObjectReader _newReader(DeserializationConfig config, JavaType valueType, Object valueToUpdate,
+                                      FormatSchema schema, InjectableValues injectableValues) {
+        return new ArrayLimitingReader(this, config, valueType, valueToUpdate, schema, injectableValues,
+                maxArrayElements);
+    }
+
+    private static JsonFactory limit(JsonFactory factory, StreamReadConstraints constraints, int maxArrayElements) {
+        String format = factory.getFormatName();
+        // Subclasses of JsonFactory that do not override it report no format
+        if (format == null || JsonFactory.FORMAT_NAME_JSON.equals(format)) {
+            return new LimitedJsonFactory(factory, constraints, maxArrayElements);
+        }
+        return factory.rebuild().streamReadConstraints(constraints).build();
+    }
+}
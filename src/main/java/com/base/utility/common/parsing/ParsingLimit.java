@@ -0,0 +1,39 @@
+package com.base.utility.common.parsing;
+
+import com.base.utility.exception.utils.ErrorCode;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * The request-body limits enforced while parsing, each named after its {@code base.utility.request-parsing}
+ * property as reported in the {@code limit} detail of the error response.
+ */
+@Getter
+public enum ParsingLimit {
+    BODY_SIZE("maxBodySize", ErrorCode.INVALID_REQUEST, HttpStatus.PAYLOAD_TOO_LARGE,
+            "Request body exceeds the maximum allowed size"),
+    NESTING_DEPTH("maxNestingDepth", ErrorCode.INVALID_REQUEST, HttpStatus.BAD_REQUEST,
+            "Request body is nested too deeply"),
+    ARRAY_ELEMENTS("maxArrayElements", ErrorCode.INVALID_REQUEST, HttpStatus.BAD_REQUEST,
+            "Array in request body has too many elements"),
+    TOKEN_COUNT("maxTokenCount", ErrorCode.INVALID_REQUEST, HttpStatus.BAD_REQUEST,
+            "Request body has too many tokens"),
+    STRING_LENGTH("maxStringLength", ErrorCode.FIELD_TOO_LONG, HttpStatus.BAD_REQUEST,
+            "String value in request body exceeds the maximum allowed length"),
+    NUMBER_LENGTH("maxNumberLength", ErrorCode.FIELD_TOO_LONG, HttpStatus.BAD_REQUEST,
+            "Number value in request body exceeds the maximum allowed length"),
+    NAME_LENGTH("maxNameLength", ErrorCode.FIELD_TOO_LONG, HttpStatus.BAD_REQUEST,
+            "Field name in request body exceeds the maximum allowed length");
+
+    private final String property;
+    private final ErrorCode errorCode;
+    private final HttpStatus httpStatus;
+    private final String message;
+
+    ParsingLimit(String property, ErrorCode errorCode, HttpStatus httpStatus, String message) {
+        this.property = property;
+        this.errorCode = errorCode;
+        this.httpStatus = httpStatus;
+        this.message = message;
+    }
+}
@@ -0,0 +1,62 @@
+package com.base.utility.common.parsing;
+
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link ParsingLimit} that stopped a request body from being read, recovered from whatever exception
+ * the failure surfaced as: the converters and codecs wrap the parser's exception one or more times.
+ *
+ * @param max the configured limit, or {@code null} when it could not be determined
+ */
+public record ParsingLimitViolation(ParsingLimit limit, Long max) {
+    // Jackson reports StreamReadConstraints violations as "... exceeds the maximum allowed (N, from `...getMaxX()`)"
+    private static final Pattern JACKSON_CONSTRAINT = Pattern.compile(
+            "maximum allowed \\((\\d+), from `StreamReadConstraints\\.(\\w+)\\(\\)`");
+
+    public static ParsingLimitViolation find(Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof BodyTooLargeException tooLarge) {
+                return new ParsingLimitViolation(ParsingLimit.BODY_SIZE, tooLarge.getMaxBytes());
+            }
+            if (t instanceof ArrayElementLimitException tooMany) {
+                return new ParsingLimitViolation(ParsingLimit.ARRAY_ELEMENTS, (long) tooMany.getMaxElements());
+            }
+            if (t instanceof StreamConstraintsException constraint) {
+                return fromJackson(constraint);
+            }
+        }
+        return null;
+    }
+
+    public Map<String, Object> details() {
+        Map<String, Object> details = new LinkedHashMap<>(4);
+        details.put("limit", limit.getProperty());
+        if (max != null) {
+            details.put("max", max);
+        }
+        return details;
+    }
+
+    private static ParsingLimitViolation fromJackson(StreamConstraintsException ex) {
+        String message = ex.getOriginalMessage();
+        Matcher matcher = message != null ? JACKSON_CONSTRAINT.matcher(message) : null;
+        if (matcher == null || !matcher.find()) {
+            return null;
+        }
+        ParsingLimit limit = switch (matcher.group(2)) {
+            case "getMaxNestingDepth" -> ParsingLimit.NESTING_DEPTH;
+            case "getMaxStringLength" -> ParsingLimit.STRING_LENGTH;
+            case "getMaxNumberLength" -> ParsingLimit.NUMBER_LENGTH;
+            case "getMaxNameLength" -> ParsingLimit.NAME_LENGTH;
+            case "getMaxTokenCount" -> ParsingLimit.TOKEN_COUNT;
+            case "getMaxDocumentLength" -> ParsingLimit.BODY_SIZE;
+            default -> null;
+        };
+        return limit != null ? new ParsingLimitViolation(limit, Long.parseLong(matcher.group(1))) : null;
+    }
+}
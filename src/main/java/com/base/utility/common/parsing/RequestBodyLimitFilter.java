@@ -0,0 +1,146 @@
+package com.base.utility.common.parsing;
+
+import com.base.utility.common.filters.ErrorResponseWriter;
+import com.base.utility.exception.response.ErrorBodyTemplate;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Caps the bytes an application can read from a request body. A declared {@code Content-Length} over the
+ * limit fails on the first {@code getInputStream()} call without reading anything; chunked or understated
+ * bodies fail as soon as the limit is crossed. Either way a {@link BodyTooLargeException} surfaces through
+ * the message converters and is answered with {@code 413} by the exception handlers; one that escapes
+ * Spring MVC, e.g. from a later filter buffering the body, is answered with {@code 413} here.
+ */
+public class RequestBodyLimitFilter extends OncePerRequestFilter {
+    private static final ErrorBodyTemplate BODY_TOO_LARGE = ErrorBodyTemplate.of(
+            ParsingLimit.BODY_SIZE.getErrorCode(), ParsingLimit.BODY_SIZE.getMessage());
+
+    private final long maxBodySize;
+
+    // Negative disables the limit
+    public RequestBodyLimitFilter(long maxBodySize) {
+        this.maxBodySize = maxBodySize;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request
+            , HttpServletResponse response
+            , FilterChain filterChain) throws ServletException, IOException {
+        if (maxBodySize < 0 || request.getContentLengthLong() == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        try {
+            filterChain.doFilter(new SizeLimitedRequest(request, maxBodySize), response);
+        } catch (IOException | ServletException ex) {
+            ParsingLimitViolation violation = ParsingLimitViolation.find(ex);
+            if (violation == null || violation.limit() != ParsingLimit.BODY_SIZE || response.isCommitted()) {
+                throw ex;
+            }
+            response.resetBuffer();
+            ErrorResponseWriter.write(response, ParsingLimit.BODY_SIZE.getHttpStatus(), BODY_TOO_LARGE);
+        }
+    }
+
+    private static final class SizeLimitedRequest extends HttpServletRequestWrapper {
+        private final long maxBodySize;
+        private ServletInputStream inputStream;
+        private BufferedReader reader;
+
+        private SizeLimitedRequest(HttpServletRequest request, long maxBodySize) {
+            super(request);
+            this.maxBodySize = maxBodySize;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                if (getContentLengthLong() > maxBodySize) {
+                    throw new BodyTooLargeException(maxBodySize);
+                }
+                inputStream = new LimitedInputStream(super.getInputStream(), maxBodySize);
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            if (reader == null) {
+                String encoding = getCharacterEncoding();
+                // The servlet default when the request declares no charset
+                Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+                reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+            }
+            return reader;
+        }
+    }
+
+    private static final class LimitedInputStream extends ServletInputStream {
+        private final ServletInputStream delegate;
+        private final long maxBytes;
+        private long read;
+
+        private LimitedInputStream(ServletInputStream delegate, long maxBytes) {
+            this.delegate = delegate;
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = delegate.read(b, off, len);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        private void count(int n) throws BodyTooLargeException {
+            read += n;
+            if (read > maxBytes) {
+                throw new BodyTooLargeException(maxBytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.base.utility.common.ratelimit;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process {@link RateLimitStore} using GCRA, the generic cell rate algorithm: a bucket is a
+ * single "theoretical arrival time" updated with CAS, so consuming a token never locks.
+ * <p>
+ * Buckets are spread over independent stripes, each bounded to {@code maxEntries / stripes}.
+ * A bucket whose arrival time has passed is full, which is indistinguishable from having no bucket,
+ * so idle clients are evicted without losing state. If a stripe is still full after that, arbitrary
+ * buckets are dropped, which at worst grants those clients a fresh burst.
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final int maxEntriesPerStripe;
+
+    public InMemoryRateLimitStore(int stripes, int maxEntries) {
+        int stripeCount = 1;
+        while (stripeCount < stripes) {
+            stripeCount <<= 1;
+        }
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.stripeMask = stripeCount - 1;
+        this.maxEntriesPerStripe = Math.max(1, maxEntries / stripeCount);
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(String key, RateLimitPolicy policy) {
+        Stripe stripe = stripes[spread(key.hashCode()) & stripeMask];
+        AtomicLong bucket = stripe.buckets.get(key);
+        if (bucket == null) {
+            if (stripe.buckets.size() >= maxEntriesPerStripe) {
+                stripe.evict(System.nanoTime(), maxEntriesPerStripe);
+            }
+            bucket = stripe.buckets.computeIfAbsent(key, ignored -> new AtomicLong(System.nanoTime()));
+        }
+        return consume(bucket, policy);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.buckets.size();
+        }
+        return size;
+    }
+
+    private static RateLimitDecision consume(AtomicLong theoreticalArrival, RateLimitPolicy policy) {
+        long interval = policy.emissionIntervalNanos();
+        long capacityNanos = interval * policy.capacity();
+        while (true) {
+            long now = System.nanoTime();
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, now) + interval;
+            long backlog = next - now;
+            if (backlog > capacityNanos) {
+                long waitNanos = backlog - capacityNanos;
+                return new RateLimitDecision(false, policy.capacity(), 0,
+                        toSecondsCeil(Math.max(tat, now) - now), toSecondsCeil(waitNanos));
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                long remaining = (capacityNanos - backlog) / interval;
+                return new RateLimitDecision(true, policy.capacity(), remaining, toSecondsCeil(backlog), 0);
+            }
+        }
+    }
+
+    private static long toSecondsCeil(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Stripe {
+        private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicBoolean evicting = new AtomicBoolean();
+
+        private void evict(long now, int maxEntries) {
+            // One sweeper per stripe; other threads keep going and may briefly overshoot the bound
+            if (!evicting.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                buckets.values().removeIf(bucket -> bucket.get() <= now);
+                // Leave headroom so the next inserts do not immediately trigger another sweep
+                int target = maxEntries - Math.max(1, maxEntries / 10);
+                Iterator<AtomicLong> iterator = buckets.values().iterator();
+                while (buckets.size() > target && iterator.hasNext()) {
+                    iterator.next();
+                    iterator.remove();
+                }
+            } finally {
+                evicting.set(false);
+            }
+        }
+    }
+}
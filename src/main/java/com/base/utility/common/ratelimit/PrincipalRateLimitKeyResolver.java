@@ -0,0 +1,27 @@
+package com.base.utility.common.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.security.Principal;
+
+/**
+ * Keys requests by the authenticated principal when there is one, otherwise by remote address (put
+ * Spring's {@code ForwardedHeaderFilter} in front when running behind a proxy). The principal is only
+ * seen when authentication runs before {@link RateLimitFilter}, as Spring Security's filter chain and
+ * container-managed security do; applications authenticating later in the chain get per-address
+ * limits unless they supply their own {@link RateLimitKeyResolver}.
+ */
+public class PrincipalRateLimitKeyResolver implements RateLimitKeyResolver {
+    // Bounds the memory a single key can take in the store
+    private static final int MAX_KEY_LENGTH = 128;
+
+    @Override
+    public String resolve(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null && principal.getName() != null && !principal.getName().isEmpty()) {
+            String name = principal.getName();
+            return "user:" + (name.length() > MAX_KEY_LENGTH ? name.substring(0, MAX_KEY_LENGTH) : name);
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
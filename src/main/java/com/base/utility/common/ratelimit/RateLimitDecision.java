@@ -0,0 +1,9 @@
+package com.base.utility.common.ratelimit;
+
+/**
+ * Outcome of one consumption attempt. {@code resetSeconds} is the time until the bucket is full
+ * again and {@code retryAfterSeconds} the time until the next token is available (zero when allowed).
+ */
+public record RateLimitDecision(boolean allowed, long limit, long remaining, long resetSeconds,
+                                long retryAfterSeconds) {
+}
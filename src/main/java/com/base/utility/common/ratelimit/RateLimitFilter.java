@@ -0,0 +1,55 @@
+package com.base.utility.common.ratelimit;
+
+import com.base.utility.common.autoconfigure.BaseUtilityProperties;
+import com.base.utility.common.filters.ErrorResponseWriter;
+import com.base.utility.exception.response.ErrorBodyTemplate;
+import com.base.utility.exception.utils.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Per-client quotas: clients are identified by a {@link RateLimitKeyResolver}, by default the
+ * authenticated principal or else the remote address. Every response carries {@code RateLimit-Limit}, {@code RateLimit-Remaining} and
+ * {@code RateLimit-Reset}; rejected requests get {@code 429}, {@code Retry-After} and the
+ * {@link ErrorCode#TOO_MANY_REQUESTS} envelope.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String LIMIT_HEADER = "RateLimit-Limit";
+    private static final String REMAINING_HEADER = "RateLimit-Remaining";
+    private static final String RESET_HEADER = "RateLimit-Reset";
+
+    private final RateLimitStore store;
+    private final RateLimitPolicy policy;
+    private final RateLimitKeyResolver keyResolver;
+
+    public RateLimitFilter(RateLimitStore store, RateLimitKeyResolver keyResolver,
+                           BaseUtilityProperties.RateLimit properties) {
+        this.store = store;
+        this.keyResolver = keyResolver;
+        this.policy = new RateLimitPolicy(properties.getCapacity(), properties.getPeriod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request
+            , HttpServletResponse response
+            , FilterChain filterChain) throws ServletException, IOException {
+        RateLimitDecision decision = store.tryConsume(keyResolver.resolve(request), policy);
+
+        response.setHeader(LIMIT_HEADER, String.valueOf(decision.limit()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        response.setHeader(RESET_HEADER, String.valueOf(decision.resetSeconds()));
+        if (!decision.allowed()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, decision.retryAfterSeconds())));
+            ErrorResponseWriter.write(response, HttpStatus.TOO_MANY_REQUESTS, ErrorBodyTemplate.of(ErrorCode.TOO_MANY_REQUESTS));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,14 @@
+package com.base.utility.common.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Identifies the client a request is counted against. Keys must come from something the client
+ * cannot pick freely per request, such as an authenticated principal or an API key that has been
+ * validated; otherwise a client can dodge its quota by sending a new key every time. Implementations
+ * are called on every request and must be thread-safe.
+ */
+@FunctionalInterface
+public interface RateLimitKeyResolver {
+    String resolve(HttpServletRequest request);
+}
@@ -0,0 +1,24 @@
+package com.base.utility.common.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Token bucket of {@code capacity} tokens that refills completely over {@code period}; a client
+ * may burst up to {@code capacity} requests and then sustain {@code capacity / period}.
+ */
+public record RateLimitPolicy(long capacity, Duration period) {
+
+    public RateLimitPolicy {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        if (period == null || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("period must be positive");
+        }
+    }
+
+    // Time for one token to refill
+    public long emissionIntervalNanos() {
+        return Math.max(1, period.toNanos() / capacity);
+    }
+}
@@ -0,0 +1,9 @@
+package com.base.utility.common.ratelimit;
+
+/**
+ * Storage for per-client token buckets. The default {@link InMemoryRateLimitStore} is per instance;
+ * an implementation backed by a shared store makes the quota cluster-wide.
+ */
+public interface RateLimitStore {
+    RateLimitDecision tryConsume(String key, RateLimitPolicy policy);
+}
@@ -0,0 +1,72 @@
+package com.base.utility.common.reactive;
+
+import org.slf4j.MDC;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+import reactor.util.context.ContextView;
+
+import java.util.function.Consumer;
+
+import static com.base.utility.utils.AppConstant.MDC_KEY;
+
+/**
+ * Access to the request id on reactive stacks, where it lives in the Reactor {@code Context} rather
+ * than the MDC. Logging is bridged per signal: the MDC is populated only for the duration of the
+ * log statement, on whichever thread delivers the signal.
+ *
+ * <pre>{@code
+ * return service.find(id)
+ *         .doOnEach(ReactiveRequestContext.logOnNext(user -> log.info("Found {}", user.getId())));
+ * }</pre>
+ */
+public final class ReactiveRequestContext {
+    public static final String CONTEXT_KEY = MDC_KEY;
+    public static final String REQUEST_ID_ATTRIBUTE = ReactiveRequestContext.class.getName() + ".requestId";
+
+    private ReactiveRequestContext() {}
+
+    public static Mono<String> requestId() {
+        return Mono.deferContextual(context -> Mono.justOrEmpty(context.<String>getOrEmpty(CONTEXT_KEY)));
+    }
+
+    // For code outside the filter's Reactor context, such as WebExceptionHandlers
+    public static String requestId(ServerWebExchange exchange) {
+        return exchange.getAttribute(REQUEST_ID_ATTRIBUTE);
+    }
+
+    public static <T> Consumer<Signal<T>> logOnNext(Consumer<T> logStatement) {
+        return signal -> {
+            if (signal.isOnNext()) {
+                withMdc(signal.getContextView(), () -> logStatement.accept(signal.get()));
+            }
+        };
+    }
+
+    public static <T> Consumer<Signal<T>> logOnError(Consumer<Throwable> logStatement) {
+        return signal -> {
+            if (signal.isOnError()) {
+                withMdc(signal.getContextView(), () -> logStatement.accept(signal.getThrowable()));
+            }
+        };
+    }
+
+    public static void withMdc(ContextView context, Runnable logStatement) {
+        String requestId = context.getOrDefault(CONTEXT_KEY, null);
+        if (requestId == null) {
+            logStatement.run();
+            return;
+        }
+        String previous = MDC.get(MDC_KEY);
+        MDC.put(MDC_KEY, requestId);
+        try {
+            logStatement.run();
+        } finally {
+            if (previous != null) {
+                MDC.put(MDC_KEY, previous);
+            } else {
+                MDC.remove(MDC_KEY);
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.base.utility.common.reactive;
+
+import com.base.utility.common.autoconfigure.BaseUtilityProperties;
+import com.base.utility.common.metrics.RequestMetrics;
+import com.base.utility.common.requestid.RequestIdGenerator;
+import com.base.utility.common.requestid.RequestIdSanitizer;
+import org.springframework.core.Ordered;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+
+import static com.base.utility.utils.AppConstant.REQUEST_UID_HEADER;
+
+/**
+ * Reactive counterpart of {@link com.base.utility.common.filters.RequestCorrelationFilter}. The request
+ * id is echoed in the response header, stored as an exchange attribute and written to the Reactor
+ * {@code Context} under {@link ReactiveRequestContext#CONTEXT_KEY}; no thread-local state is touched.
+ */
+public class ReactiveRequestCorrelationFilter implements WebFilter, Ordered {
+    private final RequestIdGenerator requestIdGenerator;
+    private final RequestIdSanitizer sanitizer;
+    private final RequestMetrics requestMetrics;
+
+    public ReactiveRequestCorrelationFilter(RequestIdGenerator requestIdGenerator,
+                                            BaseUtilityProperties.RequestId properties,
+                                            RequestMetrics requestMetrics) {
+        this.requestIdGenerator = requestIdGenerator;
+        this.sanitizer = new RequestIdSanitizer(properties);
+        this.requestMetrics = requestMetrics;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String inbound = sanitizer.sanitize(exchange.getRequest().getHeaders().getFirst(REQUEST_UID_HEADER));
+        String requestId = inbound != null ? inbound : requestIdGenerator.generate();
+        exchange.getAttributes().put(ReactiveRequestContext.REQUEST_ID_ATTRIBUTE, requestId);
+        exchange.getResponse().getHeaders().set(REQUEST_UID_HEADER, requestId);
+
+        Mono<Void> result = chain.filter(exchange)
+                .contextWrite(context -> context.put(ReactiveRequestContext.CONTEXT_KEY, requestId));
+        if (requestMetrics == null) {
+            return result;
+        }
+        long start = System.nanoTime();
+        return result.doFinally(signal -> requestMetrics.record(route(exchange), System.nanoTime() - start));
+    }
+
+    private static String route(ServerWebExchange exchange) {
+        Object pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern instanceof PathPattern pathPattern ? pathPattern.getPatternString() : null;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
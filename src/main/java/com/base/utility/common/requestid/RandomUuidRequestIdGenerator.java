@@ -0,0 +1,19 @@
+package com.base.utility.common.requestid;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Version 4 UUIDs drawn from {@link ThreadLocalRandom} instead of the shared {@code SecureRandom}
+ * behind {@link UUID#randomUUID()}. Request IDs only need to be unique, not unpredictable.
+ */
+public class RandomUuidRequestIdGenerator implements RequestIdGenerator {
+
+    @Override
+    public String generate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long msb = (random.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb).toString();
+    }
+}
@@ -0,0 +1,10 @@
+package com.base.utility.common.requestid;
+
+/**
+ * Produces request IDs for requests that arrive without an {@code X-Request-ID} header.
+ * Implementations are called on every such request and must be thread-safe and non-blocking.
+ */
+@FunctionalInterface
+public interface RequestIdGenerator {
+    String generate();
+}
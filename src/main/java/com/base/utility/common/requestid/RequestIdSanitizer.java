@@ -0,0 +1,39 @@
+package com.base.utility.common.requestid;
+
+import com.base.utility.common.autoconfigure.BaseUtilityProperties;
+
+/**
+ * Validates inbound {@code X-Request-ID} values before they are echoed back and written to logs:
+ * values are truncated to the configured length and, when validation is enabled, rejected if they
+ * contain characters outside {@code [A-Za-z0-9._:-]}.
+ */
+public final class RequestIdSanitizer {
+    private final int maxLength;
+    private final boolean validateInbound;
+
+    public RequestIdSanitizer(BaseUtilityProperties.RequestId properties) {
+        this.maxLength = properties.getMaxLength();
+        this.validateInbound = properties.isValidateInbound();
+    }
+
+    // Returns null when the inbound value is absent or unusable, so a fresh id is generated
+    public String sanitize(String inbound) {
+        if (inbound == null || inbound.isEmpty()) {
+            return null;
+        }
+        String value = inbound.length() > maxLength ? inbound.substring(0, maxLength) : inbound;
+        if (validateInbound) {
+            for (int i = 0; i < value.length(); i++) {
+                if (!isAllowed(value.charAt(i))) {
+                    return null;
+                }
+            }
+        }
+        return value;
+    }
+
+    private static boolean isAllowed(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '_' || c == '.' || c == ':';
+    }
+}
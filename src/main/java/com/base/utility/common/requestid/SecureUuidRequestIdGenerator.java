@@ -0,0 +1,15 @@
+package com.base.utility.common.requestid;
+
+import java.util.UUID;
+
+/**
+ * {@link UUID#randomUUID()}, backed by {@code SecureRandom}. Kept for applications that rely on
+ * request IDs being unpredictable; slower under contention than the other generators.
+ */
+public class SecureUuidRequestIdGenerator implements RequestIdGenerator {
+
+    @Override
+    public String generate() {
+        return UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,45 @@
+package com.base.utility.common.requestid;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compact 64-bit IDs: 41 bits of milliseconds since {@link #EPOCH}, a 10-bit node ID and a 12-bit
+ * per-millisecond sequence, rendered in base 36 (at most 13 characters). The timestamp and sequence
+ * share one {@link AtomicLong} and advance with a CAS loop, so generation never blocks.
+ */
+public class SnowflakeRequestIdGenerator implements RequestIdGenerator {
+    // 2024-01-01T00:00:00Z
+    private static final long EPOCH = 1704067200000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    // (millis since EPOCH << SEQUENCE_BITS) | sequence of the last issued ID
+    private final AtomicLong lastState = new AtomicLong();
+
+    public SnowflakeRequestIdGenerator(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Snowflake node id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public String generate() {
+        long state;
+        long next;
+        do {
+            state = lastState.get();
+            long now = (System.currentTimeMillis() - EPOCH) << SEQUENCE_BITS;
+            // Same millisecond, sequence exhausted or clock stepped back: borrow from the next
+            // millisecond rather than wait, keeping IDs unique and monotonic
+            next = now > state ? now : state + 1;
+        } while (!lastState.compareAndSet(state, next));
+
+        long millis = next >>> SEQUENCE_BITS;
+        long id = (millis << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+        return Long.toString(id, 36);
+    }
+}
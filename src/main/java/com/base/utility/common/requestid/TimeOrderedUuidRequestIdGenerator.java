@@ -0,0 +1,19 @@
+package com.base.utility.common.requestid;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Version 7 UUIDs (RFC 9562): a 48-bit Unix millisecond timestamp followed by random bits, so IDs
+ * sort roughly by creation time in logs and indexes.
+ */
+public class TimeOrderedUuidRequestIdGenerator implements RequestIdGenerator {
+
+    @Override
+    public String generate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long msb = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb).toString();
+    }
+}
@@ -0,0 +1,38 @@
+package com.base.utility.common.requestid;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ULIDs: a 48-bit millisecond timestamp and 80 random bits encoded as 26 Crockford base32
+ * characters. Time-ordered like UUIDv7 but shorter in logs.
+ */
+public class UlidRequestIdGenerator implements RequestIdGenerator {
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    @Override
+    public String generate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long time = System.currentTimeMillis();
+        long randomHigh = random.nextLong() & 0xFFFFL;       // 16 bits
+        long randomLow = random.nextLong();                  // 64 bits
+
+        char[] chars = new char[26];
+        // 10 characters of timestamp (50 bits, top 2 always zero)
+        for (int i = 9; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (time & 0x1F)];
+            time >>>= 5;
+        }
+        // 16 characters of randomness (80 bits): 16 high bits followed by 64 low bits
+        for (int i = 25; i >= 14; i--) {
+            chars[i] = ALPHABET[(int) (randomLow & 0x1F)];
+            randomLow >>>= 5;
+        }
+        // randomLow has 4 bits left; combine them with the 16 high bits
+        long remaining = (randomHigh << 4) | randomLow;
+        for (int i = 13; i >= 10; i--) {
+            chars[i] = ALPHABET[(int) (remaining & 0x1F)];
+            remaining >>>= 5;
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,83 @@
+package com.base.utility.common.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Caps concurrent calls to one dependency with a semaphore, so a hanging downstream service ties
+ * up at most {@code maxConcurrentCalls} request threads. Callers over the limit wait up to
+ * {@code maxWait} (not at all by default) and are then rejected with {@link BulkheadFullException}.
+ */
+public class Bulkhead {
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final long maxWaitNanos;
+    private final Semaphore semaphore;
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    public Bulkhead(String name, BulkheadConfig config) {
+        this(name, config.maxConcurrentCalls(), config.maxWait());
+    }
+
+    public Bulkhead(String name, int maxConcurrentCalls, Duration maxWait) {
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException("maxConcurrentCalls must be positive");
+        }
+        this.name = name;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.semaphore = new Semaphore(maxConcurrentCalls);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        if (!tryAcquirePermission()) {
+            throw new BulkheadFullException(name);
+        }
+        try {
+            return call.get();
+        } finally {
+            release();
+        }
+    }
+
+    public boolean tryAcquirePermission() {
+        boolean acquired;
+        if (maxWaitNanos <= 0) {
+            acquired = semaphore.tryAcquire();
+        } else {
+            try {
+                acquired = semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+        }
+        if (!acquired) {
+            rejectedCalls.increment();
+        }
+        return acquired;
+    }
+
+    public void release() {
+        semaphore.release();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public int getAvailablePermits() {
+        return semaphore.availablePermits();
+    }
+
+    public long getRejectedCalls() {
+        return rejectedCalls.sum();
+    }
+}
@@ -0,0 +1,7 @@
+package com.base.utility.common.resilience;
+
+import java.time.Duration;
+
+public record BulkheadConfig(int maxConcurrentCalls, Duration maxWait) {
+    public static final BulkheadConfig DEFAULT = new BulkheadConfig(25, Duration.ZERO);
+}
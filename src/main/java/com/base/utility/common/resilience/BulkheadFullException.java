@@ -0,0 +1,12 @@
+package com.base.utility.common.resilience;
+
+import com.base.utility.exception.type.ExternalServiceException;
+import com.base.utility.exception.utils.ErrorCode;
+
+// Rejections happen under load, so they never capture a stack trace
+public class BulkheadFullException extends ExternalServiceException {
+    public BulkheadFullException(String bulkhead) {
+        super(ErrorCode.EXTERNAL_SERVICE_UNAVAILABLE, bulkhead,
+                "Bulkhead '" + bulkhead + "' is full", null, null, false);
+    }
+}
@@ -0,0 +1,14 @@
+package com.base.utility.common.resilience;
+
+import com.base.utility.exception.type.ExternalServiceException;
+import com.base.utility.exception.utils.ErrorCode;
+
+import java.time.Duration;
+
+// Thrown on the fail-fast path of an open circuit, so never captures a stack trace
+public class CallNotPermittedException extends ExternalServiceException {
+    public CallNotPermittedException(String circuitBreaker, Duration retryAfter) {
+        super(ErrorCode.EXTERNAL_SERVICE_UNAVAILABLE, circuitBreaker,
+                "Circuit breaker '" + circuitBreaker + "' is open", null, retryAfter, false);
+    }
+}
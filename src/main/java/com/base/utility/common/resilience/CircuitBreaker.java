@@ -0,0 +1,198 @@
+package com.base.utility.common.resilience;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free circuit breaker. The current state is an immutable {@link Phase} swapped by CAS, so
+ * exactly one thread performs each transition and notifies the listeners; closed-state calls only
+ * read that reference and bump the {@link SlidingWindow} counters.
+ * <p>
+ * Calls go through {@link #execute(Supplier)}, or through {@link #tryAcquirePermission()} followed
+ * by exactly one of {@link #onSuccess(long)} or {@link #onError(long, Throwable)}. Timeouts thrown
+ * by {@code execute} are rethrown as {@code EXTERNAL_SERVICE_TIMEOUT} exceptions.
+ */
+public class CircuitBreaker {
+    private final String name;
+    private final CircuitBreakerConfig config;
+    private final SlidingWindow window;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final AtomicReference<Phase> phase;
+    private final List<StateTransitionListener> listeners = new CopyOnWriteArrayList<>();
+    private final LongAdder notPermittedCalls = new LongAdder();
+    private final LongAdder[] transitionsTo = new LongAdder[State.values().length];
+
+    public CircuitBreaker(String name, CircuitBreakerConfig config) {
+        this.name = name;
+        this.config = config;
+        this.window = new SlidingWindow(config.window().toNanos(), config.windowBuckets());
+        this.slowCallNanos = config.slowCallDuration().toNanos();
+        this.openNanos = config.openDuration().toNanos();
+        this.phase = new AtomicReference<>(new Phase(State.CLOSED, System.nanoTime(), 0));
+        for (State state : State.values()) {
+            transitionsTo[state.ordinal()] = new LongAdder();
+        }
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        if (!tryAcquirePermission()) {
+            throw notPermitted();
+        }
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException ex) {
+            onError(System.nanoTime() - start, ex);
+            throw (RuntimeException) ExternalCallFailures.translate(name, ex);
+        } catch (Error ex) {
+            onError(System.nanoTime() - start, ex);
+            throw ex;
+        }
+    }
+
+    public boolean tryAcquirePermission() {
+        Phase current = phase.get();
+        if (current.state == State.CLOSED) {
+            return true;
+        }
+        if (current.state == State.OPEN) {
+            if (System.nanoTime() - current.since < openNanos) {
+                notPermittedCalls.increment();
+                return false;
+            }
+            transition(current, State.HALF_OPEN);
+            current = phase.get();
+            if (current.state != State.HALF_OPEN) {
+                return tryAcquirePermission();
+            }
+        }
+        int permits;
+        do {
+            permits = current.permits.get();
+            if (permits <= 0) {
+                notPermittedCalls.increment();
+                return false;
+            }
+        } while (!current.permits.compareAndSet(permits, permits - 1));
+        return true;
+    }
+
+    public void onSuccess(long durationNanos) {
+        boolean slow = durationNanos >= slowCallNanos;
+        Phase current = phase.get();
+        if (current.state == State.HALF_OPEN) {
+            if (slow) {
+                transition(current, State.OPEN);
+            } else if (current.successes.incrementAndGet() >= config.halfOpenCalls()) {
+                transition(current, State.CLOSED);
+            }
+            return;
+        }
+        window.record(false, slow);
+        evaluate(current);
+    }
+
+    public void onError(long durationNanos, Throwable ex) {
+        if (!config.recordFailure().test(ex)) {
+            onSuccess(durationNanos);
+            return;
+        }
+        Phase current = phase.get();
+        if (current.state == State.HALF_OPEN) {
+            transition(current, State.OPEN);
+            return;
+        }
+        window.record(true, durationNanos >= slowCallNanos);
+        evaluate(current);
+    }
+
+    public CallNotPermittedException notPermitted() {
+        Phase current = phase.get();
+        Duration retryAfter = current.state == State.OPEN
+                ? Duration.ofNanos(Math.max(0, openNanos - (System.nanoTime() - current.since)))
+                : null;
+        return new CallNotPermittedException(name, retryAfter);
+    }
+
+    public void transitionToOpen() {
+        transition(phase.get(), State.OPEN);
+    }
+
+    public void reset() {
+        transition(phase.get(), State.CLOSED);
+    }
+
+    public void addListener(StateTransitionListener listener) {
+        listeners.add(listener);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        return phase.get().state;
+    }
+
+    public long getNotPermittedCalls() {
+        return notPermittedCalls.sum();
+    }
+
+    public long getTransitionsTo(State state) {
+        return transitionsTo[state.ordinal()].sum();
+    }
+
+    private void evaluate(Phase current) {
+        if (current.state == State.CLOSED
+                && window.exceeds(config.minimumCalls(), config.failureRateThreshold(), config.slowCallRateThreshold())) {
+            transition(current, State.OPEN);
+        }
+    }
+
+    private void transition(Phase current, State target) {
+        if (current.state == target) {
+            return;
+        }
+        Phase next = new Phase(target, System.nanoTime(), target == State.HALF_OPEN ? config.halfOpenCalls() : 0);
+        if (!phase.compareAndSet(current, next)) {
+            return;
+        }
+        if (target == State.CLOSED) {
+            window.reset();
+        }
+        transitionsTo[target.ordinal()].increment();
+        for (StateTransitionListener listener : listeners) {
+            listener.onTransition(this, current.state, target);
+        }
+    }
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    @FunctionalInterface
+    public interface StateTransitionListener {
+        void onTransition(CircuitBreaker circuitBreaker, State from, State to);
+    }
+
+    private static final class Phase {
+        private final State state;
+        private final long since;
+        private final AtomicInteger permits;
+        private final AtomicInteger successes = new AtomicInteger();
+
+        private Phase(State state, long since, int permits) {
+            this.state = state;
+            this.since = since;
+            this.permits = new AtomicInteger(permits);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.base.utility.common.resilience;
+
+import com.base.utility.exception.type.BusinessException;
+import com.base.utility.exception.type.ExternalServiceException;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+/**
+ * Settings of a {@link CircuitBreaker}. The circuit opens once at least {@code minimumCalls} were
+ * recorded within {@code window} and either the failure rate or the slow call rate reaches its
+ * threshold. It stays open for {@code openDuration}, then lets {@code halfOpenCalls} trial calls
+ * through; the circuit closes if all of them succeed and opens again on the first failure.
+ *
+ * @param recordFailure exceptions for which this returns {@code false} count as successes,
+ *                      e.g. a 404 from the downstream service; by default business exceptions
+ *                      other than {@link ExternalServiceException} are not failures
+ */
+public record CircuitBreakerConfig(double failureRateThreshold,
+                                   double slowCallRateThreshold,
+                                   Duration slowCallDuration,
+                                   int minimumCalls,
+                                   Duration window,
+                                   int windowBuckets,
+                                   Duration openDuration,
+                                   int halfOpenCalls,
+                                   Predicate<Throwable> recordFailure) {
+
+    public static final Predicate<Throwable> DEFAULT_RECORD_FAILURE =
+            ex -> !(ex instanceof BusinessException) || ex instanceof ExternalServiceException;
+    public static final CircuitBreakerConfig DEFAULT = new CircuitBreakerConfig(
+            0.5, 1.0, Duration.ofSeconds(5), 20, Duration.ofSeconds(10), 10, Duration.ofSeconds(30), 5,
+            DEFAULT_RECORD_FAILURE);
+
+    public CircuitBreakerConfig {
+        if (failureRateThreshold <= 0.0 || failureRateThreshold > 1.0
+                || slowCallRateThreshold <= 0.0 || slowCallRateThreshold > 1.0) {
+            throw new IllegalArgumentException("Rate thresholds must be in (0.0, 1.0]");
+        }
+        if (minimumCalls < 1 || windowBuckets < 1 || halfOpenCalls < 1) {
+            throw new IllegalArgumentException("minimumCalls, windowBuckets and halfOpenCalls must be positive");
+        }
+        if (window.toNanos() < windowBuckets) {
+            throw new IllegalArgumentException("Window is too short for " + windowBuckets + " buckets");
+        }
+    }
+}
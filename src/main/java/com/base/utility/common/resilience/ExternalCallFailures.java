@@ -0,0 +1,33 @@
+package com.base.utility.common.resilience;
+
+import com.base.utility.exception.type.ExternalServiceException;
+import com.base.utility.exception.utils.ErrorCode;
+
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.TimeoutException;
+
+final class ExternalCallFailures {
+    // Client libraries wrap timeouts, e.g. RestTemplate's ResourceAccessException
+    private static final int MAX_CAUSE_DEPTH = 4;
+
+    private ExternalCallFailures() {
+    }
+
+    // Timeouts become EXTERNAL_SERVICE_TIMEOUT; anything else is rethrown unchanged
+    static Throwable translate(String service, Throwable ex) {
+        if (ex instanceof ExternalServiceException) {
+            return ex;
+        }
+        Throwable cause = ex;
+        for (int depth = 0; cause != null && depth < MAX_CAUSE_DEPTH; depth++, cause = cause.getCause()) {
+            if (cause instanceof TimeoutException
+                    || cause instanceof SocketTimeoutException
+                    || cause instanceof HttpTimeoutException) {
+                return new ExternalServiceException(ErrorCode.EXTERNAL_SERVICE_TIMEOUT, service,
+                        "Call to '" + service + "' timed out", ex);
+            }
+        }
+        return ex;
+    }
+}
@@ -0,0 +1,28 @@
+package com.base.utility.common.resilience;
+
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+
+import java.lang.annotation.Annotation;
+import java.util.function.Supplier;
+
+/**
+ * Proxies beans that carry {@link UseCircuitBreaker} or {@link UseBulkhead} on the class or on any
+ * method, the same way Spring handles {@code @Async}.
+ */
+public class ResilienceAnnotationBeanPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    public ResilienceAnnotationBeanPostProcessor(Supplier<ResilienceRegistry> registry) {
+        this.advisor = new DefaultPointcutAdvisor(
+                pointcut(UseCircuitBreaker.class).union(pointcut(UseBulkhead.class)),
+                new ResilienceInterceptor(registry));
+        setBeforeExistingAdvisors(true);
+    }
+
+    private static ComposablePointcut pointcut(Class<? extends Annotation> annotationType) {
+        return new ComposablePointcut(new AnnotationMatchingPointcut(annotationType, true))
+                .union(new AnnotationMatchingPointcut(null, annotationType, true));
+    }
+}
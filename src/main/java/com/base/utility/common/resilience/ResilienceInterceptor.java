@@ -0,0 +1,80 @@
+package com.base.utility.common.resilience;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.MethodClassKey;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Applies {@link UseBulkhead} and {@link UseCircuitBreaker}. Annotations are resolved once per
+ * method, with method-level annotations taking precedence over the class.
+ */
+public class ResilienceInterceptor implements MethodInterceptor {
+    private final Supplier<ResilienceRegistry> registry;
+    private final Map<MethodClassKey, Guards> guards = new ConcurrentHashMap<>();
+
+    public ResilienceInterceptor(Supplier<ResilienceRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Class<?> targetClass = invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis()) : null;
+        Guards guard = guards.computeIfAbsent(new MethodClassKey(invocation.getMethod(), targetClass),
+                key -> resolve(invocation.getMethod(), targetClass));
+
+        Bulkhead bulkhead = guard.bulkhead();
+        if (bulkhead != null && !bulkhead.tryAcquirePermission()) {
+            throw new BulkheadFullException(bulkhead.getName());
+        }
+        try {
+            CircuitBreaker circuitBreaker = guard.circuitBreaker();
+            if (circuitBreaker == null) {
+                return invocation.proceed();
+            }
+            if (!circuitBreaker.tryAcquirePermission()) {
+                throw circuitBreaker.notPermitted();
+            }
+            long start = System.nanoTime();
+            try {
+                Object result = invocation.proceed();
+                circuitBreaker.onSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable ex) {
+                circuitBreaker.onError(System.nanoTime() - start, ex);
+                throw ExternalCallFailures.translate(circuitBreaker.getName(), ex);
+            }
+        } finally {
+            if (bulkhead != null) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    private Guards resolve(Method method, Class<?> targetClass) {
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        Class<?> declaringClass = targetClass != null ? targetClass : method.getDeclaringClass();
+
+        UseCircuitBreaker circuitBreaker = AnnotatedElementUtils.findMergedAnnotation(specificMethod, UseCircuitBreaker.class);
+        if (circuitBreaker == null) {
+            circuitBreaker = AnnotatedElementUtils.findMergedAnnotation(declaringClass, UseCircuitBreaker.class);
+        }
+        UseBulkhead bulkhead = AnnotatedElementUtils.findMergedAnnotation(specificMethod, UseBulkhead.class);
+        if (bulkhead == null) {
+            bulkhead = AnnotatedElementUtils.findMergedAnnotation(declaringClass, UseBulkhead.class);
+        }
+        ResilienceRegistry resilienceRegistry = registry.get();
+        return new Guards(
+                circuitBreaker != null ? resilienceRegistry.circuitBreaker(circuitBreaker.value()) : null,
+                bulkhead != null ? resilienceRegistry.bulkhead(bulkhead.value()) : null);
+    }
+
+    private record Guards(CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.base.utility.common.resilience;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Locale;
+
+/**
+ * Publishes circuit breaker states and transitions and bulkhead usage to Micrometer, for every
+ * instance in the {@link ResilienceRegistry} including those created after binding.
+ */
+public class ResilienceMeterBinder implements MeterBinder {
+    private final ResilienceRegistry registry;
+
+    public ResilienceMeterBinder(ResilienceRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        registry.onNewCircuitBreaker(circuitBreaker -> bindCircuitBreaker(meterRegistry, circuitBreaker));
+        registry.onNewBulkhead(bulkhead -> bindBulkhead(meterRegistry, bulkhead));
+    }
+
+    private static void bindCircuitBreaker(MeterRegistry registry, CircuitBreaker circuitBreaker) {
+        for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+            String tag = state.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("base.utility.circuitbreaker.state", circuitBreaker, c -> c.getState() == state ? 1 : 0)
+                    .description("1 for the current state of the circuit breaker, 0 otherwise")
+                    .tag("name", circuitBreaker.getName())
+                    .tag("state", tag)
+                    .register(registry);
+            FunctionCounter.builder("base.utility.circuitbreaker.transitions", circuitBreaker, c -> c.getTransitionsTo(state))
+                    .description("Circuit breaker state transitions by target state")
+                    .tag("name", circuitBreaker.getName())
+                    .tag("state", tag)
+                    .register(registry);
+        }
+        FunctionCounter.builder("base.utility.circuitbreaker.not.permitted", circuitBreaker, CircuitBreaker::getNotPermittedCalls)
+                .description("Calls rejected without reaching the downstream service")
+                .tag("name", circuitBreaker.getName())
+                .register(registry);
+    }
+
+    private static void bindBulkhead(MeterRegistry registry, Bulkhead bulkhead) {
+        Gauge.builder("base.utility.bulkhead.available", bulkhead, Bulkhead::getAvailablePermits)
+                .description("Free bulkhead slots")
+                .tag("name", bulkhead.getName())
+                .register(registry);
+        Gauge.builder("base.utility.bulkhead.max", bulkhead, Bulkhead::getMaxConcurrentCalls)
+                .description("Maximum concurrent calls allowed by the bulkhead")
+                .tag("name", bulkhead.getName())
+                .register(registry);
+        FunctionCounter.builder("base.utility.bulkhead.rejected", bulkhead, Bulkhead::getRejectedCalls)
+                .description("Calls rejected because the bulkhead was full")
+                .tag("name", bulkhead.getName())
+                .register(registry);
+    }
+}
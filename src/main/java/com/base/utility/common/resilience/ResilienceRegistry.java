@@ -0,0 +1,88 @@
+package com.base.utility.common.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Named {@link CircuitBreaker}s and {@link Bulkhead}s, created on first use from the configuration
+ * for that name. Circuit state transitions are logged.
+ */
+@Slf4j
+public class ResilienceRegistry {
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+    private final Function<String, CircuitBreakerConfig> circuitBreakerConfigs;
+    private final Function<String, BulkheadConfig> bulkheadConfigs;
+    private volatile Consumer<CircuitBreaker> circuitBreakerListener;
+    private volatile Consumer<Bulkhead> bulkheadListener;
+
+    public ResilienceRegistry() {
+        this(name -> CircuitBreakerConfig.DEFAULT, name -> BulkheadConfig.DEFAULT);
+    }
+
+    public ResilienceRegistry(Function<String, CircuitBreakerConfig> circuitBreakerConfigs,
+                              Function<String, BulkheadConfig> bulkheadConfigs) {
+        this.circuitBreakerConfigs = circuitBreakerConfigs;
+        this.bulkheadConfigs = bulkheadConfigs;
+    }
+
+    public CircuitBreaker circuitBreaker(String name) {
+        CircuitBreaker circuitBreaker = circuitBreakers.get(name);
+        if (circuitBreaker == null) {
+            circuitBreaker = circuitBreakers.computeIfAbsent(name, this::newCircuitBreaker);
+        }
+        return circuitBreaker;
+    }
+
+    public Bulkhead bulkhead(String name) {
+        Bulkhead bulkhead = bulkheads.get(name);
+        if (bulkhead == null) {
+            bulkhead = bulkheads.computeIfAbsent(name, this::newBulkhead);
+        }
+        return bulkhead;
+    }
+
+    public Collection<CircuitBreaker> getCircuitBreakers() {
+        return circuitBreakers.values();
+    }
+
+    public Collection<Bulkhead> getBulkheads() {
+        return bulkheads.values();
+    }
+
+    // Invoked for every instance created so far and for each one created afterwards
+    public void onNewCircuitBreaker(Consumer<CircuitBreaker> listener) {
+        this.circuitBreakerListener = listener;
+        circuitBreakers.values().forEach(listener);
+    }
+
+    public void onNewBulkhead(Consumer<Bulkhead> listener) {
+        this.bulkheadListener = listener;
+        bulkheads.values().forEach(listener);
+    }
+
+    private CircuitBreaker newCircuitBreaker(String name) {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(name, circuitBreakerConfigs.apply(name));
+        circuitBreaker.addListener((breaker, from, to) ->
+                log.warn("Circuit breaker '{}' changed from {} to {}", breaker.getName(), from, to));
+        Consumer<CircuitBreaker> listener = circuitBreakerListener;
+        if (listener != null) {
+            listener.accept(circuitBreaker);
+        }
+        return circuitBreaker;
+    }
+
+    private Bulkhead newBulkhead(String name) {
+        Bulkhead bulkhead = new Bulkhead(name, bulkheadConfigs.apply(name));
+        Consumer<Bulkhead> listener = bulkheadListener;
+        if (listener != null) {
+            listener.accept(bulkhead);
+        }
+        return bulkhead;
+    }
+}
@@ -0,0 +1,73 @@
+package com.base.utility.common.resilience;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Call outcomes over a time window split into buckets. Each bucket is tagged with the epoch it
+ * counts for and recycled by the first writer of a newer epoch. A few outcomes recorded while a
+ * bucket is being recycled may be lost, which is acceptable for rate estimates and keeps
+ * recording to a handful of atomic increments.
+ */
+final class SlidingWindow {
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final int buckets;
+    private final long bucketNanos;
+    private final long origin = System.nanoTime();
+    private final AtomicLongArray epochs;
+    private final AtomicLongArray calls;
+    private final AtomicLongArray failures;
+    private final AtomicLongArray slowCalls;
+
+    SlidingWindow(long windowNanos, int buckets) {
+        this.buckets = buckets;
+        this.bucketNanos = windowNanos / buckets;
+        this.epochs = new AtomicLongArray(buckets);
+        this.calls = new AtomicLongArray(buckets);
+        this.failures = new AtomicLongArray(buckets);
+        this.slowCalls = new AtomicLongArray(buckets);
+        reset();
+    }
+
+    void record(boolean failure, boolean slow) {
+        long epoch = (System.nanoTime() - origin) / bucketNanos;
+        int index = (int) (epoch % buckets);
+        long seen = epochs.get(index);
+        if (seen != epoch && epochs.compareAndSet(index, seen, epoch)) {
+            calls.set(index, 0);
+            failures.set(index, 0);
+            slowCalls.set(index, 0);
+        }
+        calls.incrementAndGet(index);
+        if (failure) {
+            failures.incrementAndGet(index);
+        }
+        if (slow) {
+            slowCalls.incrementAndGet(index);
+        }
+    }
+
+    boolean exceeds(int minimumCalls, double failureRateThreshold, double slowCallRateThreshold) {
+        long epoch = (System.nanoTime() - origin) / bucketNanos;
+        long totalCalls = 0;
+        long totalFailures = 0;
+        long totalSlowCalls = 0;
+        for (int i = 0; i < buckets; i++) {
+            long bucketEpoch = epochs.get(i);
+            if (bucketEpoch != EMPTY && epoch - bucketEpoch < buckets) {
+                totalCalls += calls.get(i);
+                totalFailures += failures.get(i);
+                totalSlowCalls += slowCalls.get(i);
+            }
+        }
+        return totalCalls >= minimumCalls
+                && (totalFailures >= failureRateThreshold * totalCalls
+                || totalSlowCalls >= slowCallRateThreshold * totalCalls);
+    }
+
+    void reset() {
+        for (int i = 0; i < buckets; i++) {
+            epochs.set(i, EMPTY);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.base.utility.common.resilience;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits concurrent calls to the annotated method, or to every public method of the annotated
+ * bean, with the named {@link Bulkhead}. Combined with {@link UseCircuitBreaker}, the bulkhead is
+ * entered first.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface UseBulkhead {
+    String value();
+}
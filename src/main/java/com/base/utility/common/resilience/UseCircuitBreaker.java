@@ -0,0 +1,19 @@
+package com.base.utility.common.resilience;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Guards calls to the annotated method, or to every public method of the annotated bean, with the
+ * named {@link CircuitBreaker} from the {@link ResilienceRegistry}. Only synchronous methods are
+ * supported; a returned {@code Mono} or {@code CompletableFuture} counts as an immediate success.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface UseCircuitBreaker {
+    String value();
+}
@@ -0,0 +1,280 @@
+package com.base.utility.exception.catalog;
+
+import com.base.utility.exception.response.ErrorBodyTemplate;
+import com.base.utility.exception.utils.ErrorCategory;
+import com.base.utility.exception.utils.ErrorCode;
+import com.base.utility.exception.utils.MessageTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable index of every error code a service can return: the built-in {@link ErrorCode}s plus codes
+ * the application registers, each in exactly one named {@link ErrorCodeRange}. Looking up a code string
+ * or the codes of a range is a single hash lookup; finding the range of a number is a binary search
+ * over the few ranges.
+ * <p>
+ * Messages can be translated per locale. Translations are {@link MessageTemplate}s compiled when the
+ * catalog is built, so rendering one never parses a pattern, and a regional locale such as {@code de-CH}
+ * falls back to its language ({@code de}) code by code.
+ */
+public final class ErrorCodeCatalog {
+    private static final ErrorCodeCatalog BUILT_IN = builder().build();
+
+    private final Map<String, ErrorCodeDefinition> byCode;
+    private final ErrorCodeDefinition[] byErrorCode;
+    // Sorted by start, never overlapping
+    private final ErrorCodeRange[] ranges;
+    private final Map<String, ErrorCodeRange> rangesByName;
+    private final Map<String, List<ErrorCodeDefinition>> codesByRange;
+    private final List<ErrorCodeDefinition> definitions;
+    private final Map<Locale, LocalizedMessages> messages;
+    private final Locale defaultLocale;
+
+    private ErrorCodeCatalog(List<ErrorCodeRange> ranges, List<ErrorCodeDefinition> definitions,
+                             Map<Locale, LocalizedMessages> messages, Locale defaultLocale) {
+        this.ranges = ranges.toArray(ErrorCodeRange[]::new);
+        this.definitions = List.copyOf(definitions);
+        this.messages = Map.copyOf(messages);
+        this.defaultLocale = defaultLocale;
+        this.byCode = new HashMap<>(definitions.size() * 2);
+        this.byErrorCode = new ErrorCodeDefinition[ErrorCode.values().length];
+        this.rangesByName = new HashMap<>(ranges.size() * 2);
+        Map<String, List<ErrorCodeDefinition>> grouped = new HashMap<>(ranges.size() * 2);
+        for (ErrorCodeRange range : ranges) {
+            rangesByName.put(range.name(), range);
+            grouped.put(range.name(), new ArrayList<>());
+        }
+        for (ErrorCodeDefinition definition : definitions) {
+            byCode.put(definition.getCode(), definition);
+            if (definition.isBuiltIn()) {
+                byErrorCode[definition.getErrorCode().ordinal()] = definition;
+            }
+            grouped.get(definition.getRange().name()).add(definition);
+        }
+        this.codesByRange = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((name, codes) -> codesByRange.put(name, List.copyOf(codes)));
+    }
+
+    // Only the built-in codes and categories, without translations
+    public static ErrorCodeCatalog builtIn() {
+        return BUILT_IN;
+    }
+
+    // Starts from the built-in codes and categories
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public ErrorCodeDefinition find(String code) {
+        return code != null ? byCode.get(code) : null;
+    }
+
+    public ErrorCodeDefinition get(ErrorCode errorCode) {
+        return byErrorCode[errorCode.ordinal()];
+    }
+
+    public ErrorCodeRange findRange(String name) {
+        return rangesByName.get(name);
+    }
+
+    // The range containing the number, or null when none does
+    public ErrorCodeRange findRange(int number) {
+        return findRange(ranges, number);
+    }
+
+    public List<ErrorCodeDefinition> codes(String rangeName) {
+        return codesByRange.getOrDefault(rangeName, List.of());
+    }
+
+    public List<ErrorCodeRange> getRanges() {
+        return List.of(ranges);
+    }
+
+    public Collection<ErrorCodeDefinition> getDefinitions() {
+        return definitions;
+    }
+
+    public Locale getDefaultLocale() {
+        return defaultLocale;
+    }
+
+    /**
+     * Translations for the locale, falling back from {@code de-CH} to {@code de}; {@code null} when the
+     * catalog has none and default messages apply.
+     */
+    public LocalizedMessages messages(Locale locale) {
+        LocalizedMessages localized = messages.get(locale);
+        if (localized == null && !locale.getCountry().isEmpty()) {
+            localized = messages.get(Locale.forLanguageTag(locale.getLanguage()));
+        }
+        return localized;
+    }
+
+    /**
+     * Translations for the first of the client's preferred locales, e.g. {@code ServletRequest#getLocales()},
+     * that the catalog can serve. A preferred locale in the default language stops the search, as the default
+     * messages already are in that language.
+     */
+    public LocalizedMessages preferredMessages(Enumeration<Locale> preferred) {
+        while (preferred.hasMoreElements()) {
+            Locale locale = preferred.nextElement();
+            LocalizedMessages localized = messages(locale);
+            if (localized != null) {
+                return localized;
+            }
+            if (locale.getLanguage().equals(defaultLocale.getLanguage())) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static ErrorCodeRange findRange(ErrorCodeRange[] ranges, int number) {
+        int low = 0;
+        int high = ranges.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            ErrorCodeRange range = ranges[mid];
+            if (number < range.from()) {
+                high = mid - 1;
+            } else if (number > range.to()) {
+                low = mid + 1;
+            } else {
+                return range;
+            }
+        }
+        return null;
+    }
+
+    public static final class Builder {
+        private final List<ErrorCodeRange> ranges = new ArrayList<>();
+        private final Map<String, String> codes = new LinkedHashMap<>();
+        private final Map<Locale, Map<String, String>> translations = new LinkedHashMap<>();
+        private Locale defaultLocale = Locale.ENGLISH;
+
+        private Builder() {
+            for (ErrorCategory category : ErrorCategory.values()) {
+                ranges.add(new ErrorCodeRange(category.name(), category.getFrom(), category.getTo()));
+            }
+        }
+
+        public Builder range(String name, int from, int to) {
+            ranges.add(new ErrorCodeRange(name, from, to));
+            return this;
+        }
+
+        // Codes end in "_<number>", e.g. ERR_7001, and must fall into one of the ranges
+        public Builder code(String code, String message) {
+            if (codes.putIfAbsent(code, message) != null || ErrorCode.fromCode(code) != null) {
+                throw new IllegalArgumentException("Error code " + code + " is already defined");
+            }
+            return this;
+        }
+
+        // Built-in and application codes alike; placeholders are filled from the exception's details
+        public Builder message(Locale locale, String code, String template) {
+            translations.computeIfAbsent(locale, l -> new LinkedHashMap<>()).put(code, template);
+            return this;
+        }
+
+        // Language of the untranslated messages
+        public Builder defaultLocale(Locale defaultLocale) {
+            this.defaultLocale = defaultLocale;
+            return this;
+        }
+
+        public ErrorCodeCatalog build() {
+            List<ErrorCodeRange> sorted = sortedRanges();
+            ErrorCodeRange[] byStart = sorted.toArray(ErrorCodeRange[]::new);
+
+            List<ErrorCodeDefinition> definitions = new ArrayList<>();
+            for (ErrorCode errorCode : ErrorCode.values()) {
+                definitions.add(new ErrorCodeDefinition(errorCode.getCode(), errorCode.getNumber(),
+                        findRange(byStart, errorCode.getNumber()), errorCode.getMessage(), errorCode, definitions.size()));
+            }
+            codes.forEach((code, message) -> {
+                int number = number(code);
+                ErrorCodeRange range = findRange(byStart, number);
+                if (range == null) {
+                    throw new IllegalStateException("Error code " + code + " is outside every range");
+                }
+                definitions.add(new ErrorCodeDefinition(code, number, range, message, null, definitions.size()));
+            });
+
+            Map<String, ErrorCodeDefinition> byCode = new HashMap<>(definitions.size() * 2);
+            definitions.forEach(definition -> byCode.put(definition.getCode(), definition));
+            return new ErrorCodeCatalog(sorted, definitions, compileMessages(byCode, definitions.size()), defaultLocale);
+        }
+
+        private List<ErrorCodeRange> sortedRanges() {
+            List<ErrorCodeRange> sorted = new ArrayList<>(ranges);
+            sorted.sort(Comparator.comparingInt(ErrorCodeRange::from));
+            for (int i = 1; i < sorted.size(); i++) {
+                if (sorted.get(i - 1).overlaps(sorted.get(i))) {
+                    throw new IllegalStateException("Error code range " + sorted.get(i) + " overlaps " + sorted.get(i - 1));
+                }
+            }
+            if (sorted.stream().map(ErrorCodeRange::name).distinct().count() != sorted.size()) {
+                throw new IllegalStateException("Error code range names must be unique: " + sorted);
+            }
+            return sorted;
+        }
+
+        private Map<Locale, LocalizedMessages> compileMessages(Map<String, ErrorCodeDefinition> byCode, int size) {
+            Map<Locale, MessageTemplate[]> compiled = new HashMap<>();
+            translations.forEach((locale, templates) -> {
+                MessageTemplate[] byIndex = new MessageTemplate[size];
+                templates.forEach((code, template) -> {
+                    ErrorCodeDefinition definition = byCode.get(code);
+                    if (definition == null) {
+                        throw new IllegalStateException("Unknown error code " + code + " in " + locale + " messages");
+                    }
+                    byIndex[definition.index] = MessageTemplate.compile(template);
+                });
+                compiled.put(locale, byIndex);
+            });
+
+            Map<Locale, LocalizedMessages> messages = new HashMap<>();
+            compiled.forEach((locale, byIndex) -> {
+                MessageTemplate[] language = locale.getCountry().isEmpty()
+                        ? null
+                        : compiled.get(Locale.forLanguageTag(locale.getLanguage()));
+                MessageTemplate[] templates = byIndex.clone();
+                if (language != null) {
+                    for (int i = 0; i < templates.length; i++) {
+                        if (templates[i] == null) {
+                            templates[i] = language[i];
+                        }
+                    }
+                }
+                ErrorBodyTemplate[] bodies = new ErrorBodyTemplate[ErrorCode.values().length];
+                for (ErrorCode errorCode : ErrorCode.values()) {
+                    MessageTemplate template = templates[byCode.get(errorCode.getCode()).index];
+                    if (template != null && !template.hasParameters()) {
+                        bodies[errorCode.ordinal()] = ErrorBodyTemplate.of(errorCode, template.getPattern());
+                    }
+                }
+                messages.put(locale, new LocalizedMessages(locale, templates, bodies));
+            });
+            return Collections.unmodifiableMap(messages);
+        }
+
+        private static int number(String code) {
+            int separator = code.lastIndexOf('_');
+            try {
+                return Integer.parseInt(code.substring(separator + 1));
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Error code " + code + " does not end in _<number>", ex);
+            }
+        }
+    }
+}
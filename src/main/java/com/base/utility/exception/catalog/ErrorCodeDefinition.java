@@ -0,0 +1,40 @@
+package com.base.utility.exception.catalog;
+
+import com.base.utility.exception.utils.ErrorCode;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * One entry of an {@link ErrorCodeCatalog}: a built-in {@link ErrorCode} or a code registered by the
+ * application, with its number, range and default message.
+ */
+@Getter
+public final class ErrorCodeDefinition {
+    private final String code;
+    private final int number;
+    private final ErrorCodeRange range;
+    private final String message;
+    // Null for codes registered by the application
+    private final ErrorCode errorCode;
+    // Position in the catalog's per-locale arrays
+    @Getter(AccessLevel.NONE)
+    final int index;
+
+    ErrorCodeDefinition(String code, int number, ErrorCodeRange range, String message, ErrorCode errorCode, int index) {
+        this.code = code;
+        this.number = number;
+        this.range = range;
+        this.message = message;
+        this.errorCode = errorCode;
+        this.index = index;
+    }
+
+    public boolean isBuiltIn() {
+        return errorCode != null;
+    }
+
+    @Override
+    public String toString() {
+        return code;
+    }
+}
@@ -0,0 +1,30 @@
+package com.base.utility.exception.catalog;
+
+/**
+ * A named, inclusive block of error code numbers, e.g. {@code VALIDATION} for 2000-2999. The built-in
+ * ranges are the {@link com.base.utility.exception.utils.ErrorCategory} values.
+ */
+public record ErrorCodeRange(String name, int from, int to) {
+
+    public ErrorCodeRange {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Error code range needs a name");
+        }
+        if (from < 0 || to < from) {
+            throw new IllegalArgumentException("Invalid error code range " + name + ": " + from + "-" + to);
+        }
+    }
+
+    public boolean contains(int number) {
+        return number >= from && number <= to;
+    }
+
+    public boolean overlaps(ErrorCodeRange other) {
+        return from <= other.to && other.from <= to;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + from + "-" + to + ")";
+    }
+}
@@ -0,0 +1,51 @@
+package com.base.utility.exception.catalog;
+
+import com.base.utility.exception.response.ErrorBodyTemplate;
+import com.base.utility.exception.utils.ErrorCode;
+import com.base.utility.exception.utils.MessageTemplate;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The translated messages of one locale, compiled when the catalog is built. Codes without a translation
+ * return {@code null} so that callers keep their default message.
+ */
+public final class LocalizedMessages {
+    private final Locale locale;
+    // By ErrorCodeDefinition.index
+    private final MessageTemplate[] templates;
+    // By ErrorCode ordinal, for translations without placeholders
+    private final ErrorBodyTemplate[] bodies;
+
+    LocalizedMessages(Locale locale, MessageTemplate[] templates, ErrorBodyTemplate[] bodies) {
+        this.locale = locale;
+        this.templates = templates;
+        this.bodies = bodies;
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    public MessageTemplate template(ErrorCodeDefinition definition) {
+        return templates[definition.index];
+    }
+
+    // Pre-serialized error body carrying the translated message
+    public ErrorBodyTemplate body(ErrorCode errorCode) {
+        return bodies[errorCode.ordinal()];
+    }
+
+    /**
+     * The translated message with placeholders filled from {@code arguments}, typically an exception's
+     * details map, or {@code null} when the code has no translation.
+     */
+    public String format(ErrorCodeDefinition definition, Map<String, ?> arguments) {
+        MessageTemplate template = templates[definition.index];
+        if (template == null) {
+            return null;
+        }
+        return template.hasParameters() ? template.format(arguments) : template.getPattern();
+    }
+}
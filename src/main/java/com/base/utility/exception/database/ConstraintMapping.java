@@ -0,0 +1,19 @@
+package com.base.utility.exception.database;
+
+import com.base.utility.exception.utils.ErrorCode;
+
+/**
+ * Error code and client-facing message returned for a database constraint violation.
+ * A {@code null} message falls back to the error code's default message.
+ */
+public record ConstraintMapping(ErrorCode errorCode, String message) {
+
+    public ConstraintMapping {
+        if (errorCode == null) {
+            throw new IllegalArgumentException("errorCode is required");
+        }
+        if (message == null) {
+            message = errorCode.getMessage();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.base.utility.exception.database;
+
+import com.base.utility.exception.utils.ErrorCode;
+import org.springframework.util.ClassUtils;
+
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps constraint violations to an {@link ErrorCode} and client message. Lookups go from the most
+ * to the least specific key: constraint name, vendor error code, SQLState, then the constraint kind
+ * reported by Hibernate. The constraint name comes from Hibernate's
+ * {@code ConstraintViolationException}, which the dialect has already extracted, so the exception
+ * message is never scanned.
+ * <p>
+ * Constraint names are matched case-insensitively and resolved once per distinct name.
+ */
+public class ConstraintViolationRegistry {
+    public static final ConstraintMapping DUPLICATE = new ConstraintMapping(
+            ErrorCode.DUPLICATE_RESOURCE, "Duplicate entry. This record already exists.");
+    public static final ConstraintMapping FOREIGN_KEY = new ConstraintMapping(
+            ErrorCode.CONSTRAINT_VIOLATION, "Referenced record does not exist or is being used by another record.");
+    public static final ConstraintMapping DEFAULT = new ConstraintMapping(
+            ErrorCode.CONSTRAINT_VIOLATION, "Data integrity constraint violation");
+
+    private static final boolean HIBERNATE_PRESENT = ClassUtils.isPresent(
+            "org.hibernate.exception.ConstraintViolationException", ConstraintViolationRegistry.class.getClassLoader());
+    private static final int MAX_CACHED_NAMES = 4096;
+    private static final int MAX_CAUSE_DEPTH = 16;
+
+    private final Map<String, ConstraintMapping> byConstraintName = new ConcurrentHashMap<>();
+    private final Map<String, ConstraintMapping> bySqlState = new ConcurrentHashMap<>();
+    private final Map<Integer, ConstraintMapping> byVendorCode = new ConcurrentHashMap<>();
+    private final Map<String, Optional<ConstraintMapping>> resolvedNames = new ConcurrentHashMap<>();
+
+    public ConstraintViolationRegistry() {
+        // ANSI SQLState classes used by PostgreSQL, H2, Derby, HSQLDB and DB2
+        registerSqlState("23505", DUPLICATE);
+        registerSqlState("23503", FOREIGN_KEY);
+        // MySQL / MariaDB
+        registerVendorCode(1062, DUPLICATE);
+        registerVendorCode(1451, FOREIGN_KEY);
+        registerVendorCode(1452, FOREIGN_KEY);
+        // Oracle (ORA-00001, ORA-02291, ORA-02292)
+        registerVendorCode(1, DUPLICATE);
+        registerVendorCode(2291, FOREIGN_KEY);
+        registerVendorCode(2292, FOREIGN_KEY);
+        // SQL Server
+        registerVendorCode(2601, DUPLICATE);
+        registerVendorCode(2627, DUPLICATE);
+        registerVendorCode(547, FOREIGN_KEY);
+    }
+
+    public ConstraintViolationRegistry registerConstraint(String constraintName, ConstraintMapping mapping) {
+        byConstraintName.put(normalize(constraintName), mapping);
+        resolvedNames.clear();
+        return this;
+    }
+
+    public ConstraintViolationRegistry registerSqlState(String sqlState, ConstraintMapping mapping) {
+        bySqlState.put(sqlState, mapping);
+        return this;
+    }
+
+    public ConstraintViolationRegistry registerVendorCode(int vendorCode, ConstraintMapping mapping) {
+        byVendorCode.put(vendorCode, mapping);
+        return this;
+    }
+
+    public ResolvedConstraintViolation resolve(Throwable ex) {
+        String constraintName = null;
+        String sqlState = null;
+        Integer vendorCode = null;
+        ConstraintMapping kindMapping = null;
+
+        Throwable cause = ex;
+        for (int depth = 0; cause != null && depth < MAX_CAUSE_DEPTH; depth++, cause = cause.getCause()) {
+            if (HIBERNATE_PRESENT && HibernateSupport.isConstraintViolation(cause)) {
+                constraintName = HibernateSupport.constraintName(cause);
+                kindMapping = HibernateSupport.kindMapping(cause);
+            }
+            if (cause instanceof SQLException sqlException) {
+                sqlState = sqlException.getSQLState();
+                vendorCode = sqlException.getErrorCode();
+                break;
+            }
+        }
+
+        ConstraintMapping mapping = byName(constraintName);
+        if (mapping == null && vendorCode != null && vendorCode != 0) {
+            mapping = byVendorCode.get(vendorCode);
+        }
+        if (mapping == null && sqlState != null) {
+            mapping = bySqlState.get(sqlState);
+        }
+        if (mapping == null) {
+            mapping = kindMapping != null ? kindMapping : DEFAULT;
+        }
+        return new ResolvedConstraintViolation(constraintName, sqlState, vendorCode, mapping);
+    }
+
+    private ConstraintMapping byName(String constraintName) {
+        if (constraintName == null || byConstraintName.isEmpty()) {
+            return null;
+        }
+        Optional<ConstraintMapping> resolved = resolvedNames.get(constraintName);
+        if (resolved == null) {
+            resolved = Optional.ofNullable(byConstraintName.get(normalize(constraintName)));
+            if (resolvedNames.size() < MAX_CACHED_NAMES) {
+                resolvedNames.put(constraintName, resolved);
+            }
+        }
+        return resolved.orElse(null);
+    }
+
+    // Some dialects report schema-qualified or quoted names
+    private static String normalize(String constraintName) {
+        String name = constraintName;
+        int dot = name.lastIndexOf('.');
+        if (dot >= 0) {
+            name = name.substring(dot + 1);
+        }
+        if (name.length() > 1 && name.charAt(0) == '"' && name.charAt(name.length() - 1) == '"') {
+            name = name.substring(1, name.length() - 1);
+        }
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class HibernateSupport {
+        static boolean isConstraintViolation(Throwable ex) {
+            return ex instanceof org.hibernate.exception.ConstraintViolationException;
+        }
+
+        static String constraintName(Throwable ex) {
+            return ((org.hibernate.exception.ConstraintViolationException) ex).getConstraintName();
+        }
+
+        static ConstraintMapping kindMapping(Throwable ex) {
+            org.hibernate.exception.ConstraintViolationException.ConstraintKind kind =
+                    ((org.hibernate.exception.ConstraintViolationException) ex).getKind();
+            return kind == org.hibernate.exception.ConstraintViolationException.ConstraintKind.UNIQUE ? DUPLICATE : null;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.base.utility.exception.database;
+
+import org.springframework.dao.QueryTimeoutException;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+
+/**
+ * Recognises statement timeouts however they surface: translated by Spring, thrown by the driver, or
+ * wrapped in provider exceptions.
+ */
+public final class DatabaseTimeouts {
+    private DatabaseTimeouts() {}
+
+    public static boolean isTimeout(Throwable ex) {
+        Throwable cause = ex;
+        for (int depth = 0; cause != null && depth < 16; depth++, cause = cause.getCause()) {
+            if (cause instanceof SQLTimeoutException || cause instanceof QueryTimeoutException) {
+                return true;
+            }
+            // PostgreSQL query_canceled and the ODBC timeout states used by several drivers
+            if (cause instanceof SQLException sqlException && sqlException.getSQLState() != null) {
+                String sqlState = sqlException.getSQLState();
+                if (sqlState.equals("57014") || sqlState.equals("HYT00") || sqlState.equals("HYT01")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,9 @@
+package com.base.utility.exception.database;
+
+/**
+ * What was extracted from a failed statement and how it was mapped. Any of the extracted fields may
+ * be {@code null} when the driver or persistence provider does not report it.
+ */
+public record ResolvedConstraintViolation(String constraintName, String sqlState, Integer vendorCode,
+                                  ConstraintMapping mapping) {
+}
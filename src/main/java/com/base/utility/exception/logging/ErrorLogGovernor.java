@@ -0,0 +1,219 @@
+package com.base.utility.exception.logging;
+
+import com.base.utility.exception.utils.ErrorCategory;
+import com.base.utility.exception.utils.ErrorCode;
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+import org.slf4j.event.Level;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.base.utility.utils.AppConstant.MDC_KEY;
+
+/**
+ * Limits how often the same failure is logged. Occurrences are grouped by a fingerprint of the
+ * exception class, its top stack frames and the {@link ErrorCode}; the first {@code limit}
+ * occurrences per window are logged in full, the rest are counted and reported in one summary line
+ * (with a few sample request IDs) when the window closes.
+ * <p>
+ * Reading the stack trace is the expensive part, so occurrences first pass a cheaper gate keyed by
+ * error code and exception class alone. While a pair stays within its limit every occurrence is logged,
+ * and the logger reads its frames anyway. Once the pair is over the limit, further occurrences are
+ * fingerprinted and gated by their own site, so that a new failure site with the same class and code is
+ * still logged during a flap.
+ */
+public class ErrorLogGovernor implements AutoCloseable {
+    private static final String OVERFLOW_PREFIX = "overflow:";
+
+    private final long windowNanos;
+    private final int fingerprintFrames;
+    private final int maxFingerprints;
+    private final int sampleRequestIds;
+    private final int[] limits;
+    // Occurrences per error code and exception class, counted before any fingerprint is taken
+    private final Map<Key, Window> pairs = new ConcurrentHashMap<>();
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public ErrorLogGovernor(Duration window, int defaultLimit, Map<ErrorCategory, Integer> categoryLimits,
+                            int fingerprintFrames, int maxFingerprints, int sampleRequestIds) {
+        this.windowNanos = window.toNanos();
+        this.fingerprintFrames = fingerprintFrames;
+        this.maxFingerprints = maxFingerprints;
+        this.sampleRequestIds = sampleRequestIds;
+        this.limits = new int[ErrorCategory.values().length];
+        Map<ErrorCategory, Integer> overrides = categoryLimits != null ? categoryLimits : new EnumMap<>(ErrorCategory.class);
+        for (ErrorCategory category : ErrorCategory.values()) {
+            limits[category.ordinal()] = overrides.getOrDefault(category, defaultLimit);
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "base-utility-log-governor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, window.toMillis());
+        scheduler.scheduleAtFixedRate(this::flush, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns {@code true} if the caller should log this occurrence in full. Suppressed occurrences
+     * are reported later through the given logger at the given level. A negative limit disables
+     * governing for that category.
+     */
+    public boolean tryAcquire(Logger logger, Level level, ErrorCode errorCode, Throwable ex) {
+        int limit = limits[ErrorCategory.of(errorCode).ordinal()];
+        if (limit < 0) {
+            return true;
+        }
+        long now = System.nanoTime();
+        Window pair = fingerprintFrames > 0 ? pair(logger, level, errorCode, ex) : null;
+        if (pair != null && touch(pair, now).logged.incrementAndGet() <= limit) {
+            // Counted for its fingerprint too, or the site would get a second budget once the pair is over
+            touch(window(logger, level, errorCode, ex), now).logged.incrementAndGet();
+            return true;
+        }
+        Window window = touch(window(logger, level, errorCode, ex), now);
+        if (window.logged.incrementAndGet() <= limit) {
+            return true;
+        }
+        window.suppress(MDC.get(MDC_KEY));
+        return false;
+    }
+
+    // Emits summaries for windows that have closed since their last occurrence
+    public void flush() {
+        long now = System.nanoTime();
+        pairs.values().forEach(window -> window.rollIfExpired(now));
+        windows.values().forEach(window -> window.rollIfExpired(now));
+        // Drop fingerprints that have been quiet for a full window so the maps do not only grow
+        pairs.values().removeIf(window -> window.isIdle(now));
+        windows.values().removeIf(window -> window.isIdle(now));
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        windows.values().forEach(Window::emitSummary);
+    }
+
+    private static Window touch(Window window, long now) {
+        window.lastSeen = now;
+        window.rollIfExpired(now);
+        return window;
+    }
+
+    // Null once maxFingerprints pairs are tracked; their occurrences then go straight to the fingerprint
+    private Window pair(Logger logger, Level level, ErrorCode errorCode, Throwable ex) {
+        Key key = new Key(errorCode, ex.getClass());
+        Window pair = pairs.get(key);
+        if (pair != null || pairs.size() >= maxFingerprints) {
+            return pair;
+        }
+        return pairs.computeIfAbsent(key, k -> new Window(logger, level, errorCode.getCode() + "|" + k.type().getName()));
+    }
+
+    private Window window(Logger logger, Level level, ErrorCode errorCode, Throwable ex) {
+        String fingerprint = fingerprint(errorCode, ex);
+        Window window = windows.get(fingerprint);
+        if (window != null) {
+            return window;
+        }
+        if (windows.size() >= maxFingerprints) {
+            fingerprint = OVERFLOW_PREFIX + ErrorCategory.of(errorCode);
+        }
+        String description = fingerprint;
+        return windows.computeIfAbsent(fingerprint, key -> new Window(logger, level, description));
+    }
+
+    private String fingerprint(ErrorCode errorCode, Throwable ex) {
+        StringBuilder fingerprint = new StringBuilder(128)
+                .append(errorCode.getCode())
+                .append('|')
+                .append(ex.getClass().getName());
+        if (fingerprintFrames > 0) {
+            StackTraceElement[] frames = ex.getStackTrace();
+            for (int i = 0; i < Math.min(fingerprintFrames, frames.length); i++) {
+                fingerprint.append('|')
+                        .append(frames[i].getClassName())
+                        .append('.')
+                        .append(frames[i].getMethodName())
+                        .append(':')
+                        .append(frames[i].getLineNumber());
+            }
+        }
+        return fingerprint.toString();
+    }
+
+    private record Key(ErrorCode errorCode, Class<?> type) {
+    }
+
+    private final class Window {
+        private final Logger logger;
+        private final Level level;
+        private final String fingerprint;
+        private final AtomicLong start = new AtomicLong(System.nanoTime());
+        private final AtomicInteger logged = new AtomicInteger();
+        private final LongAdder suppressed = new LongAdder();
+        private final AtomicInteger sampled = new AtomicInteger();
+        private final AtomicReferenceArray<String> samples = new AtomicReferenceArray<>(sampleRequestIds);
+        private volatile long lastSeen = System.nanoTime();
+
+        private Window(Logger logger, Level level, String fingerprint) {
+            this.logger = logger;
+            this.level = level;
+            this.fingerprint = fingerprint;
+        }
+
+        private void suppress(String requestId) {
+            suppressed.increment();
+            if (requestId != null) {
+                int slot = sampled.getAndIncrement();
+                if (slot < sampleRequestIds) {
+                    samples.set(slot, requestId);
+                }
+            }
+        }
+
+        private void rollIfExpired(long now) {
+            long windowStart = start.get();
+            // Only the thread that moves the window forward reports and resets it
+            if (now - windowStart >= windowNanos && start.compareAndSet(windowStart, now)) {
+                emitSummary();
+                logged.set(0);
+            }
+        }
+
+        private boolean isIdle(long now) {
+            return now - lastSeen >= windowNanos && suppressed.sum() == 0;
+        }
+
+        private void emitSummary() {
+            long count = suppressed.sumThenReset();
+            if (count == 0) {
+                return;
+            }
+            List<String> requestIds = new ArrayList<>(sampleRequestIds);
+            for (int i = 0; i < sampleRequestIds; i++) {
+                String requestId = samples.getAndSet(i, null);
+                if (requestId != null) {
+                    requestIds.add(requestId);
+                }
+            }
+            sampled.set(0);
+            logger.atLevel(level).log("Suppressed {} repeated occurrences of [{}] in the last {} ms; sample request IDs: {}",
+                    count, fingerprint, TimeUnit.NANOSECONDS.toMillis(windowNanos), requestIds);
+        }
+    }
+}
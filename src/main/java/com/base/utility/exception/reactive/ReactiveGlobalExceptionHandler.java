@@ -0,0 +1,249 @@
+package com.base.utility.exception.reactive;
+
+import com.base.utility.common.deadline.DeadlineExceededException;
+import com.base.utility.common.jfr.FlightRecorderEvents;
+import com.base.utility.common.jfr.HandledExceptionEvent;
+import com.base.utility.common.metrics.ErrorMetrics;
+import com.base.utility.common.parsing.ParsingLimitViolation;
+import com.base.utility.common.reactive.ReactiveRequestContext;
+import com.base.utility.exception.catalog.ErrorCodeCatalog;
+import com.base.utility.exception.catalog.LocalizedMessages;
+import com.base.utility.exception.database.ConstraintViolationRegistry;
+import com.base.utility.exception.logging.ErrorLogGovernor;
+import com.base.utility.exception.response.ApiResponse;
+import com.base.utility.exception.response.PreSerializedErrorResponse;
+import com.base.utility.exception.type.BusinessException;
+import com.base.utility.exception.type.ExternalServiceException;
+import com.base.utility.exception.utils.ErrorCode;
+import com.base.utility.exception.utils.ErrorResponseMapper;
+import com.base.utility.exception.utils.ErrorResponseMapper.MappedError;
+import com.base.utility.exception.validation.ValidationDetailsLimits;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.slf4j.event.Level;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.boot.web.reactive.error.ErrorWebExceptionHandler;
+import org.springframework.core.Ordered;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.MethodNotAllowedException;
+import org.springframework.web.server.MissingRequestValueException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.UnsupportedMediaTypeStatusException;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeoutException;
+
+import static com.base.utility.utils.AppConstant.MDC_KEY;
+
+/**
+ * Reactive counterpart of {@link com.base.utility.exception.utils.GlobalExceptionHandler}: maps the same
+ * exceptions through the same {@link ErrorResponseMapper}, plus the WebFlux equivalents of the
+ * servlet-specific exceptions. Responses are rendered synchronously into a single buffer, so nothing
+ * blocks the event loop. Ordered ahead of Spring Boot's default handler.
+ */
+@Slf4j
+public class ReactiveGlobalExceptionHandler implements ErrorWebExceptionHandler, Ordered {
+    private final ObjectMapper objectMapper;
+    private final ErrorResponseMapper mapper;
+    private final FlightRecorderEvents flightRecorderEvents;
+
+    // Every collaborator but the ObjectMapper may be null
+    public ReactiveGlobalExceptionHandler(ObjectMapper objectMapper,
+                                          ErrorMetrics errorMetrics,
+                                          ErrorLogGovernor logGovernor,
+                                          ConstraintViolationRegistry constraintViolationRegistry,
+                                          ValidationDetailsLimits validationLimits,
+                                          ErrorCodeCatalog errorCodeCatalog,
+                                          FlightRecorderEvents flightRecorderEvents) {
+        this.objectMapper = objectMapper;
+        this.mapper = new ErrorResponseMapper(log, errorMetrics, logGovernor, constraintViolationRegistry,
+                validationLimits, errorCodeCatalog);
+        this.flightRecorderEvents = flightRecorderEvents;
+    }
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) {
+            return Mono.error(ex);
+        }
+        HandledExceptionEvent event = flightRecorderEvents != null ? flightRecorderEvents.startException() : null;
+        String requestId = ReactiveRequestContext.requestId(exchange);
+
+        MappedError error;
+        byte[] body;
+        // The filter's Reactor context is gone by now, so bridge the request id into the MDC for logging
+        String previous = MDC.get(MDC_KEY);
+        if (requestId != null) {
+            MDC.put(MDC_KEY, requestId);
+        }
+        try {
+            error = map(ex, requestId);
+            body = render(mapper.localize(ex, error.body(), preferredMessages(exchange)));
+        } catch (IOException serializationFailure) {
+            return Mono.error(serializationFailure);
+        } finally {
+            if (previous != null) {
+                MDC.put(MDC_KEY, previous);
+            } else {
+                MDC.remove(MDC_KEY);
+            }
+        }
+
+        mapper.recordMetrics(error, ex);
+        if (event != null) {
+            Object route = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            flightRecorderEvents.commitException(event, requestId, route != null ? route.toString() : null,
+                    error.status(), error.errorCode(), ex, body.length);
+        }
+        if (ex instanceof ResponseStatusException statusException) {
+            // e.g. Allow on 405 and Accept on 415
+            response.getHeaders().putAll(statusException.getHeaders());
+        }
+        if (ex instanceof ExternalServiceException externalService && externalService.getRetryAfterSeconds() != null) {
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(externalService.getRetryAfterSeconds()));
+        }
+        response.setStatusCode(error.status());
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body)));
+    }
+
+    private MappedError map(Throwable ex, String requestId) {
+        if (ex instanceof DeadlineExceededException deadlineExceeded) {
+            return mapper.deadlineExceeded(deadlineExceeded, requestId);
+        }
+        if (ex instanceof ExternalServiceException externalService) {
+            return mapper.externalService(externalService, requestId);
+        }
+        if (ex instanceof BusinessException businessException) {
+            return mapper.business(businessException, requestId);
+        }
+        if (ex instanceof WebExchangeBindException bindException) {
+            return mapper.fieldErrors(bindException, bindException.getBindingResult(), requestId);
+        }
+        if (ex instanceof ConstraintViolationException violationException) {
+            return mapper.constraintViolations(violationException, requestId);
+        }
+        if (ex instanceof MethodNotAllowedException methodNotAllowed) {
+            String[] supportedMethods = methodNotAllowed.getSupportedMethods().stream()
+                    .map(HttpMethod::name)
+                    .toArray(String[]::new);
+            return mapper.methodNotAllowed(ex, methodNotAllowed.getHttpMethod(), supportedMethods, requestId);
+        }
+        if (ex instanceof UnsupportedMediaTypeStatusException) {
+            if (mapper.shouldLog(Level.WARN, ErrorCode.UNSUPPORTED_MEDIA_TYPE, ex)) {
+                log.warn("Unsupported media type: {}", ex.getMessage());
+            }
+            return mapper.template(HttpStatus.UNSUPPORTED_MEDIA_TYPE, ErrorCode.UNSUPPORTED_MEDIA_TYPE, requestId);
+        }
+        if (ex instanceof ServerWebInputException inputException) {
+            return invalidInput(inputException, requestId);
+        }
+        if (ex instanceof ResponseStatusException statusException) {
+            return responseStatus(statusException, requestId);
+        }
+        if (ex instanceof TimeoutException) {
+            // Reactor's timeout() operator is the reactive way of enforcing a request deadline
+            if (mapper.shouldLog(Level.WARN, ErrorCode.REQUEST_TIMEOUT, ex)) {
+                log.warn("Request timed out: {}", ex.getMessage());
+            }
+            return mapper.template(HttpStatus.GATEWAY_TIMEOUT, ErrorCode.REQUEST_TIMEOUT, requestId);
+        }
+        if (ex instanceof DataIntegrityViolationException) {
+            return mapper.dataIntegrityViolation(ex, requestId);
+        }
+        return mapper.unexpected(ex, requestId);
+    }
+
+    private MappedError invalidInput(ServerWebInputException ex, String requestId) {
+        if (ex instanceof MissingRequestValueException missing) {
+            return mapper.missingParameter(ex, missing.getName(), missing.getType().getSimpleName(), requestId);
+        }
+        if (ex.getCause() instanceof TypeMismatchException typeMismatch) {
+            String parameter = ex.getMethodParameter() != null && ex.getMethodParameter().getParameterName() != null
+                    ? ex.getMethodParameter().getParameterName()
+                    : typeMismatch.getPropertyName();
+            return mapper.typeMismatch(typeMismatch, parameter, typeMismatch.getRequiredType(), typeMismatch.getValue(),
+                    requestId);
+        }
+        // A parsing limit counts wherever in the cause chain it surfaced
+        if (ex.getCause() instanceof DecodingException || ParsingLimitViolation.find(ex) != null) {
+            return mapper.malformedBody(ex, requestId);
+        }
+        if (mapper.shouldLog(Level.WARN, ErrorCode.INVALID_REQUEST, ex)) {
+            log.warn("Invalid request: {}", ex.getReason());
+        }
+        return mapper.template(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_REQUEST, requestId);
+    }
+
+    private MappedError responseStatus(ResponseStatusException ex, String requestId) {
+        HttpStatus status = HttpStatus.resolve(ex.getStatusCode().value());
+        if (status == null) {
+            status = ex.getStatusCode().is4xxClientError() ? HttpStatus.BAD_REQUEST : HttpStatus.INTERNAL_SERVER_ERROR;
+        }
+        ErrorCode errorCode = switch (status) {
+            case NOT_FOUND -> ErrorCode.RESOURCE_NOT_FOUND;
+            case UNAUTHORIZED -> ErrorCode.UNAUTHORIZED;
+            case FORBIDDEN -> ErrorCode.FORBIDDEN;
+            case CONFLICT -> ErrorCode.RESOURCE_CONFLICT;
+            case TOO_MANY_REQUESTS -> ErrorCode.TOO_MANY_REQUESTS;
+            case GATEWAY_TIMEOUT, REQUEST_TIMEOUT -> ErrorCode.REQUEST_TIMEOUT;
+            default -> status.is4xxClientError() ? ErrorCode.INVALID_REQUEST : ErrorCode.INTERNAL_SERVER_ERROR;
+        };
+        if (status.is5xxServerError()) {
+            if (mapper.shouldLog(Level.ERROR, errorCode, ex)) {
+                log.error("Request failed with status {}", status.value(), ex);
+            }
+        } else if (mapper.shouldLog(Level.WARN, errorCode, ex)) {
+            log.warn("Request failed with status {}: {}", status.value(), ex.getReason());
+        }
+        return mapper.template(status, errorCode, requestId);
+    }
+
+    // Only when the client sent Accept-Language; parsed ranges come back ordered by quality
+    private LocalizedMessages preferredMessages(ServerWebExchange exchange) {
+        if (!mapper.isLocalizing()) {
+            return null;
+        }
+        List<Locale> locales;
+        try {
+            locales = exchange.getRequest().getHeaders().getAcceptLanguageAsLocales();
+        } catch (IllegalArgumentException malformedHeader) {
+            return null;
+        }
+        return locales.isEmpty() ? null : mapper.preferredMessages(Collections.enumeration(locales));
+    }
+
+    private byte[] render(ApiResponse<Void> body) throws IOException {
+        if (body instanceof PreSerializedErrorResponse preSerialized) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+            preSerialized.getTemplate().writeTo(out, preSerialized.getRequestId(), preSerialized.getTimestamp());
+            return out.toByteArray();
+        }
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    @Override
+    public int getOrder() {
+        // Spring Boot's DefaultErrorWebExceptionHandler is registered at -1
+        return -2;
+    }
+}
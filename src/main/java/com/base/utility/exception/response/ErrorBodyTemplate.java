@@ -0,0 +1,73 @@
+package com.base.utility.exception.response;
+
+import com.base.utility.exception.utils.ErrorCode;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Pre-serialized JSON for an error envelope whose code and message never change. Everything up to
+ * the {@code meta} object is encoded once; only {@code requestId} and {@code timestamp} are written
+ * per response. The output matches what Jackson produces for the equivalent {@link ApiResponse} with
+ * Spring Boot's default mapper settings; Spring MVC only uses it when the application's mapper has been
+ * checked to agree, while the servlet filters writing error responses always use this format.
+ */
+public final class ErrorBodyTemplate {
+    private static final ErrorBodyTemplate[] DEFAULTS = createDefaults();
+
+    private static final byte[] REQUEST_ID_FIELD = "\",\"requestId\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SUFFIX = "\"}}".getBytes(StandardCharsets.UTF_8);
+
+    @Getter
+    private final ErrorCode errorCode;
+    @Getter
+    private final String message;
+    private final byte[] prefix;
+
+    private ErrorBodyTemplate(ErrorCode errorCode, String message) {
+        this.errorCode = errorCode;
+        this.message = message;
+        this.prefix = ("{\"status\":\"error\",\"error\":{\"code\":\"" + quote(errorCode.getCode())
+                + "\",\"message\":\"" + quote(message) + "\"},\"meta\":{\"timestamp\":\"").getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static ErrorBodyTemplate of(ErrorCode errorCode) {
+        return DEFAULTS[errorCode.ordinal()];
+    }
+
+    // Intended for constant messages; callers should keep the returned template in a static field
+    public static ErrorBodyTemplate of(ErrorCode errorCode, String message) {
+        if (message == null || message.equals(errorCode.getMessage())) {
+            return of(errorCode);
+        }
+        return new ErrorBodyTemplate(errorCode, message);
+    }
+
+    public void writeTo(OutputStream out, String requestId, Instant timestamp) throws IOException {
+        out.write(prefix);
+        // Instant.toString() is ISO-8601, the same format Jackson uses for Instant
+        out.write(timestamp.toString().getBytes(StandardCharsets.US_ASCII));
+        if (requestId != null) {
+            out.write(REQUEST_ID_FIELD);
+            out.write(JsonStringEncoder.getInstance().quoteAsUTF8(requestId));
+        }
+        out.write(SUFFIX);
+    }
+
+    private static String quote(String value) {
+        return new String(JsonStringEncoder.getInstance().quoteAsString(value));
+    }
+
+    private static ErrorBodyTemplate[] createDefaults() {
+        ErrorCode[] codes = ErrorCode.values();
+        ErrorBodyTemplate[] templates = new ErrorBodyTemplate[codes.length];
+        for (ErrorCode code : codes) {
+            templates[code.ordinal()] = new ErrorBodyTemplate(code, code.getMessage());
+        }
+        return templates;
+    }
+}
@@ -21,4 +21,12 @@ public class MetaData {
     private Integer page;
     private Integer size;
     private Long total;
+    // Set when total comes from a cache or an estimate rather than an exact count
+    private Boolean totalEstimated;
+    private Boolean hasNext;
+    // Opaque; clients pass it back unchanged to fetch the next page
+    private String nextCursor;
+    // Bulk operations: items that succeeded and failed out of total
+    private Integer succeeded;
+    private Integer failed;
 }
@@ -0,0 +1,52 @@
+package com.base.utility.exception.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Error response backed by an {@link ErrorBodyTemplate}. JSON responses are written straight from
+ * the template bytes by {@code PreSerializedErrorConverter}; any other converter falls back to the
+ * regular getters, which materialize the usual {@link ErrorDetail} and {@link MetaData} on demand.
+ */
+@Getter
+@JsonIgnoreProperties({"template", "requestId", "timestamp"})
+public class PreSerializedErrorResponse extends ApiResponse<Void> {
+    private final ErrorBodyTemplate template;
+    private final String requestId;
+    private final Instant timestamp;
+
+    public PreSerializedErrorResponse(ErrorBodyTemplate template, String requestId) {
+        this.template = template;
+        this.requestId = requestId;
+        this.timestamp = Instant.now();
+    }
+
+    @Override
+    public String getStatus() {
+        return "error";
+    }
+
+    @Override
+    public ErrorDetail getError() {
+        if (super.getError() == null) {
+            setError(ErrorDetail.builder()
+                    .code(template.getErrorCode().getCode())
+                    .message(template.getMessage())
+                    .build());
+        }
+        return super.getError();
+    }
+
+    @Override
+    public MetaData getMeta() {
+        if (super.getMeta() == null) {
+            setMeta(MetaData.builder()
+                    .requestId(requestId)
+                    .timestamp(timestamp)
+                    .build());
+        }
+        return super.getMeta();
+    }
+}
@@ -0,0 +1,201 @@
+package com.base.utility.exception.response;
+
+import com.base.utility.exception.type.BusinessException;
+import com.base.utility.exception.utils.ErrorCode;
+import com.fasterxml.jackson.core.JsonGenerationException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static com.base.utility.utils.AppConstant.MDC_KEY;
+
+/**
+ * Writes a success envelope for a large result set without holding it in memory. Elements are
+ * serialized one at a time and flushed every {@code flushEvery} elements, so only the generator
+ * buffer is retained. The envelope is written in the order {@code data}, {@code status},
+ * {@code meta}, so the outcome and {@code meta.total} are known once the last element is written.
+ * <p>
+ * If the source fails part way through, or an element fails to serialize, the {@code data} array is
+ * closed and the envelope ends with {@code "status":"error"} and an {@code error} object instead;
+ * {@code meta.total} then counts the elements written before the failure. A partially written element
+ * is closed off as is.
+ * <p>
+ * JPA result streams must be consumed inside their transaction: either call
+ * {@link #writeTo(OutputStream)} from the transactional method, or keep the session open for the
+ * asynchronous {@link StreamingResponseBody} execution.
+ */
+@Slf4j
+public class StreamingApiResponse<T> implements StreamingResponseBody {
+    private static final ObjectMapper DEFAULT_MAPPER = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private static final int DEFAULT_FLUSH_EVERY = 256;
+
+    private final Iterator<T> iterator;
+    private final AutoCloseable source;
+    private final String requestId;
+    private final Instant timestamp;
+    private ObjectMapper objectMapper = DEFAULT_MAPPER;
+    private int flushEvery = DEFAULT_FLUSH_EVERY;
+
+    private StreamingApiResponse(Iterator<T> iterator, AutoCloseable source) {
+        this.iterator = iterator;
+        this.source = source;
+        // Captured on the request thread; the body may be written from an async executor
+        this.requestId = MDC.get(MDC_KEY);
+        this.timestamp = Instant.now();
+    }
+
+    public static <T> StreamingApiResponse<T> of(Stream<T> stream) {
+        return new StreamingApiResponse<>(stream.iterator(), stream);
+    }
+
+    public static <T> StreamingApiResponse<T> of(Iterator<T> iterator) {
+        return new StreamingApiResponse<>(iterator, iterator instanceof AutoCloseable closeable ? closeable : null);
+    }
+
+    // Use the application's ObjectMapper so elements serialize exactly as regular responses do
+    public StreamingApiResponse<T> objectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        return this;
+    }
+
+    public StreamingApiResponse<T> flushEvery(int elements) {
+        if (elements < 1) {
+            throw new IllegalArgumentException("flushEvery must be at least 1");
+        }
+        this.flushEvery = elements;
+        return this;
+    }
+
+    public ResponseEntity<StreamingResponseBody> toResponseEntity() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(this);
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        long total = 0;
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("data");
+            JsonStreamContext data = generator.getOutputContext();
+
+            Exception failure = null;
+            try {
+                while (iterator.hasNext()) {
+                    generator.writeObject(iterator.next());
+                    if (++total % flushEvery == 0) {
+                        generator.flush();
+                    }
+                }
+            } catch (JsonProcessingException ex) {
+                // An element failed to serialize; the client is still there to read the trailer
+                closeTo(generator, data, ex);
+                failure = ex;
+            } catch (IOException ex) {
+                // The client went away; there is nobody left to send a trailer to
+                throw ex;
+            } catch (Exception ex) {
+                failure = ex;
+            }
+
+            generator.writeEndArray();
+            if (failure == null) {
+                generator.writeStringField("status", "success");
+            } else {
+                log.error("Streaming response failed after {} elements", total, failure);
+                writeErrorTrailer(generator, failure);
+            }
+            writeMeta(generator, total);
+            generator.writeEndObject();
+        } finally {
+            closeSource();
+        }
+    }
+
+    // Ends whatever objects and arrays the failed element left open, down to the data array
+    private static void closeTo(JsonGenerator generator, JsonStreamContext data, JsonProcessingException failure)
+            throws IOException {
+        try {
+            while (generator.getOutputContext() != data) {
+                JsonStreamContext open = generator.getOutputContext();
+                if (open.inRoot()) {
+                    throw failure;
+                }
+                if (open.inObject()) {
+                    completeField(generator);
+                    generator.writeEndObject();
+                } else {
+                    generator.writeEndArray();
+                }
+            }
+        } catch (IOException ex) {
+            if (ex != failure) {
+                failure.addSuppressed(ex);
+            }
+            throw failure;
+        }
+    }
+
+    // A field name may have been written without its value; the context does not expose whether one is pending
+    private static void completeField(JsonGenerator generator) throws IOException {
+        try {
+            generator.writeNull();
+        } catch (JsonGenerationException expectingName) {
+            // Rejected before anything was written: the object is complete
+        }
+    }
+
+    private void writeErrorTrailer(JsonGenerator generator, Exception failure) throws IOException {
+        ErrorCode errorCode = failure instanceof BusinessException business
+                ? business.getErrorCode()
+                : ErrorCode.INTERNAL_SERVER_ERROR;
+        String message = failure instanceof BusinessException
+                ? failure.getMessage()
+                : errorCode.getMessage();
+
+        generator.writeStringField("status", "error");
+        generator.writeObjectFieldStart("error");
+        generator.writeStringField("code", errorCode.getCode());
+        generator.writeStringField("message", message);
+        generator.writeEndObject();
+    }
+
+    private void writeMeta(JsonGenerator generator, long total) throws IOException {
+        generator.writeObjectFieldStart("meta");
+        generator.writeFieldName("timestamp");
+        generator.writeObject(timestamp);
+        if (requestId != null) {
+            generator.writeStringField("requestId", requestId);
+        }
+        generator.writeNumberField("total", total);
+        generator.writeEndObject();
+    }
+
+    private void closeSource() {
+        if (source == null) {
+            return;
+        }
+        try {
+            source.close();
+        } catch (Exception ex) {
+            log.warn("Failed to close streaming response source", ex);
+        }
+    }
+}
@@ -2,35 +2,114 @@ package com.base.utility.exception.type;
 
 
 import com.base.utility.exception.utils.ErrorCode;
+import com.base.utility.exception.utils.MessageTemplate;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 @Getter
 public class BusinessException extends RuntimeException{
     private final ErrorCode errorCode;
-    private final Object details;
+    private Object details;
+    // Set for deferred exceptions: message and details are rendered from these on first access
+    private final MessageTemplate messageTemplate;
+    @Getter(AccessLevel.NONE)
+    private final Object[] messageArguments;
+    private String message;
 
     public BusinessException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
-        this.errorCode = errorCode;
-        this.details = null;
+        this(errorCode, errorCode.getMessage(), null, StackTracePolicy.captureStackTrace(errorCode));
     }
     public BusinessException(ErrorCode errorCode, String customMessage) {
-        super(customMessage);
-        this.errorCode = errorCode;
-        this.details = null;
+        this(errorCode, customMessage, null, StackTracePolicy.captureStackTrace(errorCode));
     }
     public BusinessException(ErrorCode errorCode, Object details) {
-        super(errorCode.getMessage());
-        this.errorCode = errorCode;
-        this.details = details;
+        this(errorCode, errorCode.getMessage(), details, StackTracePolicy.captureStackTrace(errorCode));
     }
     public BusinessException(ErrorCode errorCode, String customMessage, Object details) {
-        super(customMessage);
+        this(errorCode, customMessage, details, StackTracePolicy.captureStackTrace(errorCode));
+    }
+
+    // Lets subclasses force stackless (or full) construction regardless of the configured policy
+    protected BusinessException(ErrorCode errorCode, String customMessage, Object details, boolean writableStackTrace) {
+        this(errorCode, customMessage, details, null, writableStackTrace);
+    }
+
+    protected BusinessException(ErrorCode errorCode, String customMessage, Object details, Throwable cause,
+                                boolean writableStackTrace) {
+        super(customMessage, cause, true, writableStackTrace);
         this.errorCode = errorCode;
         this.details = details;
+        this.messageTemplate = null;
+        this.messageArguments = null;
     }
+
+    /**
+     * Defers building the message and the details map until {@link #getMessage()} or {@link #getDetails()}
+     * is called, so exceptions that are caught and discarded only pay for storing their arguments.
+     */
+    protected BusinessException(ErrorCode errorCode, MessageTemplate messageTemplate, Object[] messageArguments,
+                                boolean writableStackTrace) {
+        super(null, null, true, writableStackTrace);
+        this.errorCode = errorCode;
+        this.messageTemplate = messageTemplate;
+        this.messageArguments = messageArguments;
+    }
+
+    private BusinessException(ErrorCode errorCode, boolean shared) {
+        // Shared instances are immutable: no stack trace and no suppressed exceptions
+        super(errorCode.getMessage(), null, !shared, !shared);
+        this.errorCode = errorCode;
+        this.details = null;
+        this.messageTemplate = null;
+        this.messageArguments = null;
+    }
+
+    /**
+     * Returns a preallocated, stackless instance for the given code carrying its default message
+     * and no details. Safe to throw concurrently from any thread as it holds no per-call state.
+     */
+    public static BusinessException of(ErrorCode errorCode) {
+        return SharedInstances.INSTANCES[errorCode.ordinal()];
+    }
+
+    // Racing threads may both render, but always to equal values
+    @Override
+    public String getMessage() {
+        if (messageTemplate == null) {
+            return super.getMessage();
+        }
+        String rendered = message;
+        if (rendered == null) {
+            rendered = messageTemplate.format(messageArguments);
+            message = rendered;
+        }
+        return rendered;
+    }
+
+    public Object getDetails() {
+        Object rendered = details;
+        if (rendered == null && messageTemplate != null) {
+            rendered = messageTemplate.details(messageArguments);
+            details = rendered;
+        }
+        return rendered;
+    }
+
     // Backward compatibility method
     public String getErrorCodeString() {
         return errorCode.getCode();
     }
+
+    private static final class SharedInstances {
+        private static final BusinessException[] INSTANCES = create();
+
+        private static BusinessException[] create() {
+            ErrorCode[] codes = ErrorCode.values();
+            BusinessException[] instances = new BusinessException[codes.length];
+            for (ErrorCode code : codes) {
+                instances[code.ordinal()] = new BusinessException(code, true);
+            }
+            return instances;
+        }
+    }
 }
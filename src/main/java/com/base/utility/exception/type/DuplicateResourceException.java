@@ -3,13 +3,14 @@ package com.base.utility.exception.type;
 
 
 import com.base.utility.exception.utils.ErrorCode;
-
-import java.util.Map;
+import com.base.utility.exception.utils.MessageTemplate;
 
 public class DuplicateResourceException extends BusinessException{
+    private static final MessageTemplate MESSAGE =
+            MessageTemplate.compile("{resource} with {field} '{value}' already exists");
+
     public DuplicateResourceException(String resource, String field, String value) {
-        super(ErrorCode.DUPLICATE_RESOURCE,
-                String.format("%s with %s '%s' already exists", resource, field, value),
-                Map.of("resource", resource, "field", field, "value", value));
+        super(ErrorCode.DUPLICATE_RESOURCE, MESSAGE, new Object[]{resource, field, value},
+                StackTracePolicy.captureStackTrace(ErrorCode.DUPLICATE_RESOURCE));
     }
 }
@@ -0,0 +1,45 @@
+package com.base.utility.exception.type;
+
+import com.base.utility.exception.utils.ErrorCode;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+/**
+ * Failure of a downstream dependency, carrying one of the {@code EXTERNAL_SERVICE_*} codes.
+ * {@code retryAfter}, when known, is sent back to the client as {@code Retry-After}.
+ */
+@Getter
+public class ExternalServiceException extends BusinessException {
+    private final String service;
+    private final Duration retryAfter;
+
+    public ExternalServiceException(ErrorCode errorCode, String service, String message) {
+        this(errorCode, service, message, null);
+    }
+
+    public ExternalServiceException(ErrorCode errorCode, String service, String message, Throwable cause) {
+        this(errorCode, service, message, cause, null, StackTracePolicy.captureStackTrace(errorCode));
+    }
+
+    protected ExternalServiceException(ErrorCode errorCode, String service, String message, Throwable cause,
+                                       Duration retryAfter, boolean writableStackTrace) {
+        super(errorCode, message, null, cause, writableStackTrace);
+        this.service = service;
+        this.retryAfter = retryAfter;
+    }
+
+    // Whole seconds for the Retry-After header, rounded up; null when unknown
+    public Long getRetryAfterSeconds() {
+        return retryAfter != null ? Math.max(1, (retryAfter.toMillis() + 999) / 1000) : null;
+    }
+
+    public HttpStatus getHttpStatus() {
+        return switch (getErrorCode()) {
+            case EXTERNAL_SERVICE_TIMEOUT -> HttpStatus.GATEWAY_TIMEOUT;
+            case INVALID_EXTERNAL_RESPONSE -> HttpStatus.BAD_GATEWAY;
+            default -> HttpStatus.SERVICE_UNAVAILABLE;
+        };
+    }
+}
@@ -2,21 +2,19 @@ package com.base.utility.exception.type;
 
 
 import com.base.utility.exception.utils.ErrorCode;
+import com.base.utility.exception.utils.MessageTemplate;
 import lombok.Getter;
 
-import java.util.Map;
-
 @Getter
 public class ResourceNotFoundException extends BusinessException{
+    private static final MessageTemplate MESSAGE =
+            MessageTemplate.compile("{resource} with identifier '{identifier}' not found");
+
     public ResourceNotFoundException(String resource, String identifier) {
-        super(ErrorCode.RESOURCE_NOT_FOUND,
-                String.format("%s with identifier '%s' not found", resource, identifier),
-                Map.of("resource", resource, "identifier", identifier));
+        this(ErrorCode.RESOURCE_NOT_FOUND, resource, identifier);
     }
 
     public ResourceNotFoundException(ErrorCode errorCode, String resource, String identifier) {
-        super(errorCode,
-                String.format("%s with identifier '%s' not found", resource, identifier),
-                Map.of("resource", resource, "identifier", identifier));
+        super(errorCode, MESSAGE, new Object[]{resource, identifier}, StackTracePolicy.captureStackTrace(errorCode));
     }
 }
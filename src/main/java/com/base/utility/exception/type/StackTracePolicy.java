@@ -0,0 +1,62 @@
+package com.base.utility.exception.type;
+
+import com.base.utility.exception.utils.ErrorCode;
+
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides whether a {@link BusinessException} captures its stack trace.
+ * <p>
+ * Exceptions are created with {@code new} outside of the application context, so the policy
+ * is held statically and installed once at startup by {@code BaseUtilityAutoConfiguration}.
+ */
+public final class StackTracePolicy {
+    private static final ErrorCode[] CODES = ErrorCode.values();
+
+    private static volatile boolean[] stackless = new boolean[CODES.length];
+    private static volatile double sampleRate = 0.0;
+
+    private StackTracePolicy() {}
+
+    public static void configure(boolean stacklessByDefault,
+                                 Collection<ErrorCode> stacklessCodes,
+                                 Collection<ErrorCode> fullStackTraceCodes,
+                                 double stackTraceSampleRate) {
+        if (stackTraceSampleRate < 0.0 || stackTraceSampleRate > 1.0) {
+            throw new IllegalArgumentException("Stack trace sample rate must be between 0.0 and 1.0");
+        }
+        boolean[] table = new boolean[CODES.length];
+        for (ErrorCode code : CODES) {
+            table[code.ordinal()] = stacklessByDefault;
+        }
+        if (stacklessCodes != null) {
+            stacklessCodes.forEach(code -> table[code.ordinal()] = true);
+        }
+        if (fullStackTraceCodes != null) {
+            fullStackTraceCodes.forEach(code -> table[code.ordinal()] = false);
+        }
+        sampleRate = stackTraceSampleRate;
+        stackless = table;
+    }
+
+    public static void reset() {
+        configure(false, null, null, 0.0);
+    }
+
+    public static boolean isStackless(ErrorCode errorCode) {
+        return errorCode != null && stackless[errorCode.ordinal()];
+    }
+
+    /**
+     * Whether a new exception for the given code should fill in its stack trace. Stackless codes
+     * still capture a full trace for a sampled fraction of occurrences so they remain debuggable.
+     */
+    static boolean captureStackTrace(ErrorCode errorCode) {
+        if (!isStackless(errorCode)) {
+            return true;
+        }
+        double rate = sampleRate;
+        return rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+}
@@ -0,0 +1,66 @@
+package com.base.utility.exception.utils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ErrorCategory {
+    GENERIC(1000, 1999),
+    VALIDATION(2000, 2999),
+    RESOURCE(3000, 3999),
+    BUSINESS(4000, 4999),
+    DATABASE(5000, 5999),
+    EXTERNAL_SERVICE(6000, 6999);
+
+    // Every category spans whole thousands, so the thousands digit indexes it directly
+    private static final ErrorCategory[] BY_THOUSAND = mapThousands();
+    private static final ErrorCategory[] BY_ERROR_CODE = mapErrorCodes();
+
+    private final int from;
+    private final int to;
+
+    public static ErrorCategory of(ErrorCode errorCode) {
+        return BY_ERROR_CODE[errorCode.ordinal()];
+    }
+
+    // Null for numbers outside every category
+    public static ErrorCategory of(int number) {
+        int thousand = number / 1000;
+        return number >= 0 && thousand < BY_THOUSAND.length ? BY_THOUSAND[thousand] : null;
+    }
+
+    public boolean contains(int number) {
+        return number >= from && number <= to;
+    }
+
+    private static ErrorCategory[] mapThousands() {
+        int max = 0;
+        for (ErrorCategory category : values()) {
+            if (category.from % 1000 != 0 || category.to % 1000 != 999) {
+                throw new IllegalStateException(category + " does not span whole thousands");
+            }
+            max = Math.max(max, category.to / 1000);
+        }
+        ErrorCategory[] byThousand = new ErrorCategory[max + 1];
+        for (ErrorCategory category : values()) {
+            for (int thousand = category.from / 1000; thousand <= category.to / 1000; thousand++) {
+                byThousand[thousand] = category;
+            }
+        }
+        return byThousand;
+    }
+
+    private static ErrorCategory[] mapErrorCodes() {
+        ErrorCode[] codes = ErrorCode.values();
+        ErrorCategory[] categories = new ErrorCategory[codes.length];
+        for (ErrorCode code : codes) {
+            ErrorCategory category = of(code.getNumber());
+            if (category == null) {
+                throw new IllegalStateException("No category covers " + code.getCode());
+            }
+            categories[code.ordinal()] = category;
+        }
+        return categories;
+    }
+}
@@ -3,6 +3,9 @@ package com.base.utility.exception.utils;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Getter
 @RequiredArgsConstructor
 public enum ErrorCode {
@@ -14,6 +17,7 @@ public enum ErrorCode {
     METHOD_NOT_ALLOWED("ERR_1004", "HTTP method not allowed"),
     UNSUPPORTED_MEDIA_TYPE("ERR_1005", "Unsupported media type"),
     TOO_MANY_REQUESTS("ERR_1006", "Too many requests. Please try again later"),
+    REQUEST_TIMEOUT("ERR_1007", "Request deadline exceeded"),
 
     // Validation errors (2000-2999)
     VALIDATION_FAILED("ERR_2000", "Request validation failed"),
@@ -48,6 +52,29 @@ public enum ErrorCode {
     EXTERNAL_SERVICE_TIMEOUT("ERR_6001", "External service timeout"),
     INVALID_EXTERNAL_RESPONSE("ERR_6002", "Invalid response from external service");
 
+    private static final Map<String, ErrorCode> BY_CODE = indexByCode();
+
     private final String code;
     private final String message;
+
+    // The code string as sent to clients, e.g. "ERR_3000"; null when no built-in code matches
+    public static ErrorCode fromCode(String code) {
+        return code != null ? BY_CODE.get(code) : null;
+    }
+
+    // Numeric part of the code, e.g. 3000 for "ERR_3000"
+    public int getNumber() {
+        return Integer.parseInt(code, code.lastIndexOf('_') + 1, code.length(), 10);
+    }
+
+    private static Map<String, ErrorCode> indexByCode() {
+        ErrorCode[] codes = values();
+        Map<String, ErrorCode> byCode = new HashMap<>(codes.length * 2);
+        for (ErrorCode errorCode : codes) {
+            if (byCode.put(errorCode.code, errorCode) != null) {
+                throw new IllegalStateException("Duplicate error code " + errorCode.code);
+            }
+        }
+        return byCode;
+    }
 }
@@ -0,0 +1,360 @@
+package com.base.utility.exception.utils;
+
+import com.base.utility.common.deadline.DeadlineExceededException;
+import com.base.utility.common.metrics.ErrorMetrics;
+import com.base.utility.common.parsing.ParsingLimit;
+import com.base.utility.common.parsing.ParsingLimitViolation;
+import com.base.utility.exception.catalog.ErrorCodeCatalog;
+import com.base.utility.exception.catalog.ErrorCodeDefinition;
+import com.base.utility.exception.catalog.LocalizedMessages;
+import com.base.utility.exception.database.ConstraintViolationRegistry;
+import com.base.utility.exception.database.DatabaseTimeouts;
+import com.base.utility.exception.database.ResolvedConstraintViolation;
+import com.base.utility.exception.logging.ErrorLogGovernor;
+import com.base.utility.exception.response.ApiResponse;
+import com.base.utility.exception.response.ErrorBodyTemplate;
+import com.base.utility.exception.response.ErrorDetail;
+import com.base.utility.exception.response.PreSerializedErrorResponse;
+import com.base.utility.exception.type.BusinessException;
+import com.base.utility.exception.type.DuplicateResourceException;
+import com.base.utility.exception.type.ExternalServiceException;
+import com.base.utility.exception.type.ResourceNotFoundException;
+import com.base.utility.exception.type.ValidationException;
+import com.base.utility.exception.validation.ValidationDetailsLimits;
+import com.base.utility.exception.validation.ValidationErrorCollector;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Maps exceptions to statuses, error codes and {@link ApiResponse} bodies for both
+ * {@link GlobalExceptionHandler} and its reactive counterpart, which only differ in how they obtain the
+ * exception and write the response. Logging goes through the {@link ErrorLogGovernor} to the handler's
+ * own logger. Bodies without request-specific content are {@link PreSerializedErrorResponse}s.
+ */
+public final class ErrorResponseMapper {
+    private static final ErrorBodyTemplate MALFORMED_JSON = ErrorBodyTemplate.of(
+            ErrorCode.INVALID_REQUEST,
+            "Malformed JSON request. Please check your request body format.");
+    private static final Map<String, ErrorBodyTemplate> METHOD_NOT_ALLOWED_TEMPLATES = Arrays.stream(HttpMethod.values())
+            .collect(Collectors.toUnmodifiableMap(HttpMethod::name, method -> ErrorBodyTemplate.of(
+                    ErrorCode.METHOD_NOT_ALLOWED,
+                    String.format("HTTP method '%s' is not supported for this endpoint", method.name()))));
+    private static final MessageTemplate TYPE_MISMATCH = MessageTemplate.compile(
+            "Invalid value for parameter '{parameter}'. Expected {expectedType} but got '{providedValue}'");
+    private static final MessageTemplate MISSING_PARAMETER = MessageTemplate.compile(
+            "Required parameter '{parameter}' is missing");
+    private static final MessageTemplate METHOD_NOT_ALLOWED = MessageTemplate.compile(
+            "HTTP method '{method}' is not supported for this endpoint");
+
+    private final Logger log;
+    private final ErrorMetrics errorMetrics;
+    private final ErrorLogGovernor logGovernor;
+    private final ConstraintViolationRegistry constraintViolationRegistry;
+    private final ValidationDetailsLimits validationLimits;
+    private final ErrorCodeCatalog errorCodeCatalog;
+
+    // Every collaborator but the logger may be null; the registry and the limits then fall back to their defaults
+    public ErrorResponseMapper(Logger log,
+                               ErrorMetrics errorMetrics,
+                               ErrorLogGovernor logGovernor,
+                               ConstraintViolationRegistry constraintViolationRegistry,
+                               ValidationDetailsLimits validationLimits,
+                               ErrorCodeCatalog errorCodeCatalog) {
+        this.log = log;
+        this.errorMetrics = errorMetrics;
+        this.logGovernor = logGovernor;
+        this.constraintViolationRegistry = constraintViolationRegistry != null
+                ? constraintViolationRegistry
+                : new ConstraintViolationRegistry();
+        this.validationLimits = validationLimits != null ? validationLimits : ValidationDetailsLimits.DEFAULT;
+        this.errorCodeCatalog = errorCodeCatalog;
+    }
+
+    public MappedError business(BusinessException ex, String requestId) {
+        HttpStatus status;
+        String label;
+        if (ex instanceof ResourceNotFoundException) {
+            status = HttpStatus.NOT_FOUND;
+            label = "Resource not found";
+        } else if (ex instanceof DuplicateResourceException) {
+            status = HttpStatus.CONFLICT;
+            label = "Duplicate resource";
+        } else if (ex instanceof ValidationException) {
+            status = HttpStatus.BAD_REQUEST;
+            label = "Validation error";
+        } else {
+            status = HttpStatus.BAD_REQUEST;
+            label = "Business exception";
+        }
+        if (shouldLog(Level.WARN, ex.getErrorCode(), ex)) {
+            log.warn("{}: {} - Code: {}", label, ex.getMessage(), ex.getErrorCodeString());
+        }
+        return new MappedError(status, ex.getErrorCode(), ApiResponse.error(
+                ex.getErrorCodeString(),
+                ex.getMessage(),
+                ex.getDetails(),
+                requestId));
+    }
+
+    public MappedError fieldErrors(Throwable ex, BindingResult bindingResult, String requestId) {
+        if (shouldLog(Level.WARN, ErrorCode.VALIDATION_FAILED, ex)) {
+            log.warn("Request validation failed: {}", ex.getMessage());
+        }
+
+        // Single pass; the first error per field wins
+        ValidationErrorCollector collector = new ValidationErrorCollector(validationLimits);
+        for (FieldError error : bindingResult.getFieldErrors()) {
+            collector.add(error.getField(),
+                    error.getDefaultMessage() != null ? error.getDefaultMessage() : "Invalid value",
+                    error.getRejectedValue());
+        }
+
+        Map<String, Object> errorDetails = new LinkedHashMap<>();
+        errorDetails.put("fieldErrors", collector.getMessages());
+        if (collector.getRejectedValues() != null) {
+            errorDetails.put("rejectedValues", collector.getRejectedValues());
+        }
+        errorDetails.put("objectName", bindingResult.getObjectName());
+        collector.appendSummary(errorDetails);
+
+        return new MappedError(HttpStatus.BAD_REQUEST, ErrorCode.VALIDATION_FAILED, ApiResponse.error(
+                ErrorCode.VALIDATION_FAILED.getCode(),
+                "Request validation failed. Please check the field errors.",
+                errorDetails,
+                requestId));
+    }
+
+    public MappedError constraintViolations(ConstraintViolationException ex, String requestId) {
+        if (shouldLog(Level.WARN, ErrorCode.VALIDATION_FAILED, ex)) {
+            log.warn("Constraint violation: {}", ex.getMessage());
+        }
+
+        // Duplicate property paths keep the first message instead of failing the handler
+        ValidationErrorCollector collector = new ValidationErrorCollector(validationLimits);
+        if (ex.getConstraintViolations() != null) {
+            for (ConstraintViolation<?> violation : ex.getConstraintViolations()) {
+                collector.add(String.valueOf(violation.getPropertyPath()), violation.getMessage());
+            }
+        }
+
+        Map<String, Object> errorDetails = new LinkedHashMap<>();
+        errorDetails.put("violations", collector.getMessages());
+        collector.appendSummary(errorDetails);
+
+        return new MappedError(HttpStatus.BAD_REQUEST, ErrorCode.VALIDATION_FAILED, ApiResponse.error(
+                ErrorCode.VALIDATION_FAILED.getCode(),
+                "Validation constraint violation",
+                errorDetails,
+                requestId));
+    }
+
+    // An unreadable body, unless a parsing limit is what made it unreadable
+    public MappedError malformedBody(Throwable ex, String requestId) {
+        ParsingLimitViolation violation = ParsingLimitViolation.find(ex);
+        if (violation != null) {
+            return parsingLimitExceeded(violation, ex, requestId);
+        }
+        if (shouldLog(Level.WARN, ErrorCode.INVALID_REQUEST, ex)) {
+            log.warn("Malformed JSON request: {}", ex.getMessage());
+        }
+        return new MappedError(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_REQUEST,
+                new PreSerializedErrorResponse(MALFORMED_JSON, requestId));
+    }
+
+    public MappedError parsingLimitExceeded(ParsingLimitViolation violation, Throwable ex, String requestId) {
+        ParsingLimit limit = violation.limit();
+        if (shouldLog(Level.WARN, limit.getErrorCode(), ex)) {
+            log.warn("Request body rejected: {} exceeded ({})", limit.getProperty(), violation.max());
+        }
+        return new MappedError(limit.getHttpStatus(), limit.getErrorCode(), ApiResponse.error(
+                limit.getErrorCode(),
+                limit.getMessage(),
+                violation.details(),
+                requestId));
+    }
+
+    public MappedError typeMismatch(Throwable ex, String parameter, Class<?> requiredType, Object value,
+                                    String requestId) {
+        if (shouldLog(Level.WARN, ErrorCode.INVALID_FIELD_FORMAT, ex)) {
+            log.warn("Type mismatch for parameter {}: {}", parameter, ex.getMessage());
+        }
+
+        Object[] arguments = {
+                parameter,
+                requiredType != null ? requiredType.getSimpleName() : "unknown",
+                value
+        };
+
+        return new MappedError(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_FIELD_FORMAT, ApiResponse.error(
+                ErrorCode.INVALID_FIELD_FORMAT.getCode(),
+                TYPE_MISMATCH.format(arguments),
+                TYPE_MISMATCH.details(arguments),
+                requestId));
+    }
+
+    public MappedError missingParameter(Throwable ex, String parameter, String type, String requestId) {
+        if (shouldLog(Level.WARN, ErrorCode.MISSING_REQUIRED_FIELD, ex)) {
+            log.warn("Missing required parameter: {}", parameter);
+        }
+        return new MappedError(HttpStatus.BAD_REQUEST, ErrorCode.MISSING_REQUIRED_FIELD, ApiResponse.error(
+                ErrorCode.MISSING_REQUIRED_FIELD.getCode(),
+                MISSING_PARAMETER.format(parameter),
+                Map.of("parameter", parameter, "type", type),
+                requestId));
+    }
+
+    public MappedError methodNotAllowed(Throwable ex, String method, String[] supportedMethods, String requestId) {
+        if (shouldLog(Level.WARN, ErrorCode.METHOD_NOT_ALLOWED, ex)) {
+            log.warn("Method not supported: {} for this endpoint", method);
+        }
+
+        boolean listed = supportedMethods != null && supportedMethods.length > 0;
+        ErrorBodyTemplate template = METHOD_NOT_ALLOWED_TEMPLATES.get(method);
+        if (!listed && template != null) {
+            return new MappedError(HttpStatus.METHOD_NOT_ALLOWED, ErrorCode.METHOD_NOT_ALLOWED,
+                    new PreSerializedErrorResponse(template, requestId));
+        }
+        return new MappedError(HttpStatus.METHOD_NOT_ALLOWED, ErrorCode.METHOD_NOT_ALLOWED, ApiResponse.error(
+                ErrorCode.METHOD_NOT_ALLOWED.getCode(),
+                METHOD_NOT_ALLOWED.format(method),
+                listed ? Map.of("supportedMethods", supportedMethods) : null,
+                requestId));
+    }
+
+    public MappedError dataIntegrityViolation(Throwable ex, String requestId) {
+        ResolvedConstraintViolation violation = constraintViolationRegistry.resolve(ex);
+        ErrorCode errorCode = violation.mapping().errorCode();
+        // Usually caused by client input, so no stack trace
+        if (shouldLog(Level.WARN, errorCode, ex)) {
+            log.warn("Database constraint violation: constraint={}, sqlState={}, vendorCode={} - Code: {}",
+                    violation.constraintName(), violation.sqlState(), violation.vendorCode(), errorCode.getCode());
+        }
+        return new MappedError(HttpStatus.CONFLICT, errorCode, ApiResponse.error(
+                errorCode.getCode(),
+                violation.mapping().message(),
+                null,
+                requestId));
+    }
+
+    public MappedError databaseTimeout(Throwable ex, String requestId) {
+        if (shouldLog(Level.WARN, ErrorCode.DATABASE_TIMEOUT, ex)) {
+            log.warn("Database operation timed out: {}", ex.getMessage());
+        }
+        return template(HttpStatus.GATEWAY_TIMEOUT, ErrorCode.DATABASE_TIMEOUT, requestId);
+    }
+
+    public MappedError deadlineExceeded(DeadlineExceededException ex, String requestId) {
+        if (shouldLog(Level.WARN, ex.getErrorCode(), ex)) {
+            log.warn("Request deadline exceeded - Code: {}", ex.getErrorCodeString());
+        }
+        return template(HttpStatus.GATEWAY_TIMEOUT, ErrorCode.REQUEST_TIMEOUT, requestId);
+    }
+
+    public MappedError externalService(ExternalServiceException ex, String requestId) {
+        if (shouldLog(Level.WARN, ex.getErrorCode(), ex)) {
+            log.warn("External service failure: {} - Code: {}", ex.getMessage(), ex.getErrorCodeString());
+        }
+        // Downstream names and messages stay in the logs
+        return template(ex.getHttpStatus(), ex.getErrorCode(), requestId);
+    }
+
+    /**
+     * Any other exception. Database timeouts not translated by a {@code @Repository} arrive wrapped in
+     * provider exceptions, so they are looked for first.
+     */
+    public MappedError unexpected(Throwable ex, String requestId) {
+        if (DatabaseTimeouts.isTimeout(ex)) {
+            return databaseTimeout(ex, requestId);
+        }
+        if (ex instanceof SQLException) {
+            if (shouldLog(Level.ERROR, ErrorCode.DATABASE_CONNECTION_ERROR, ex)) {
+                log.error("Database error occurred", ex);
+            }
+            return template(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.DATABASE_CONNECTION_ERROR, requestId);
+        }
+        if (shouldLog(Level.ERROR, ErrorCode.INTERNAL_SERVER_ERROR, ex)) {
+            log.error("Unexpected error occurred", ex);
+        }
+        return template(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.INTERNAL_SERVER_ERROR, requestId);
+    }
+
+    public MappedError template(HttpStatus status, ErrorCode errorCode, String requestId) {
+        return new MappedError(status, errorCode, new PreSerializedErrorResponse(ErrorBodyTemplate.of(errorCode), requestId));
+    }
+
+    public boolean shouldLog(Level level, ErrorCode errorCode, Throwable ex) {
+        return logGovernor == null || logGovernor.tryAcquire(log, level, errorCode, ex);
+    }
+
+    public void recordMetrics(MappedError error, Throwable ex) {
+        if (errorMetrics != null) {
+            errorMetrics.record(error.errorCode(), ex.getClass(), error.status().value());
+        }
+    }
+
+    /**
+     * Translations for the first of the client's preferred locales the catalog can serve; {@code null}
+     * without a catalog, so callers can skip parsing {@code Accept-Language} altogether.
+     */
+    public LocalizedMessages preferredMessages(Enumeration<Locale> preferred) {
+        return errorCodeCatalog != null ? errorCodeCatalog.preferredMessages(preferred) : null;
+    }
+
+    public boolean isLocalizing() {
+        return errorCodeCatalog != null;
+    }
+
+    /**
+     * Swaps default messages, and messages rendered from an exception's own template, for the catalog's
+     * translation. Custom messages are left as they are.
+     */
+    public ApiResponse<Void> localize(Throwable ex, ApiResponse<Void> response, LocalizedMessages messages) {
+        if (messages == null) {
+            return response;
+        }
+        if (response instanceof PreSerializedErrorResponse preSerialized) {
+            ErrorBodyTemplate template = preSerialized.getTemplate();
+            ErrorCode errorCode = template.getErrorCode();
+            ErrorBodyTemplate localized = template == ErrorBodyTemplate.of(errorCode) ? messages.body(errorCode) : null;
+            return localized != null ? new PreSerializedErrorResponse(localized, preSerialized.getRequestId()) : response;
+        }
+        ErrorDetail error = response.getError();
+        ErrorCodeDefinition definition = error != null ? errorCodeCatalog.find(error.getCode()) : null;
+        if (definition == null) {
+            return response;
+        }
+        boolean templated = ex instanceof BusinessException business && business.getMessageTemplate() != null;
+        if (templated || definition.getMessage().equals(error.getMessage())) {
+            Map<String, ?> arguments = error.getDetails() instanceof Map<?, ?> details
+                    ? castDetails(details)
+                    : Map.of();
+            String message = messages.format(definition, arguments);
+            if (message != null) {
+                error.setMessage(message);
+            }
+        }
+        return response;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, ?> castDetails(Map<?, ?> details) {
+        return (Map<String, ?>) details;
+    }
+
+    public record MappedError(HttpStatus status, ErrorCode errorCode, ApiResponse<Void> body) {
+    }
+}
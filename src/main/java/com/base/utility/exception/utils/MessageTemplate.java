@@ -0,0 +1,131 @@
+package com.base.utility.exception.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A message pattern with named placeholders, e.g. {@code "{resource} with identifier '{identifier}' not found"},
+ * parsed once so that rendering is a plain concatenation instead of a {@link String#format} parse. Arguments are
+ * passed positionally in the order the names first appear, and the same arguments can be turned into a details
+ * map keyed by placeholder name.
+ */
+public final class MessageTemplate {
+    private final String pattern;
+    // Literal text around the placeholders: segments.length == slots.length + 1
+    private final String[] segments;
+    // Argument index rendered after each segment
+    private final int[] slots;
+    private final String[] parameterNames;
+    private final int literalLength;
+
+    private MessageTemplate(String pattern, String[] segments, int[] slots, String[] parameterNames) {
+        this.pattern = pattern;
+        this.segments = segments;
+        this.slots = slots;
+        this.parameterNames = parameterNames;
+        int length = 0;
+        for (String segment : segments) {
+            length += segment.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static MessageTemplate compile(String pattern) {
+        List<String> segments = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            int close = c == '{' ? pattern.indexOf('}', i + 1) : -1;
+            if (close < 0) {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            String name = pattern.substring(i + 1, close);
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Empty placeholder in message template: " + pattern);
+            }
+            int index = names.indexOf(name);
+            if (index < 0) {
+                index = names.size();
+                names.add(name);
+            }
+            segments.add(literal.toString());
+            slots.add(index);
+            literal.setLength(0);
+            i = close + 1;
+        }
+        segments.add(literal.toString());
+        return new MessageTemplate(pattern,
+                segments.toArray(String[]::new),
+                slots.stream().mapToInt(Integer::intValue).toArray(),
+                names.toArray(String[]::new));
+    }
+
+    public String format(Object... arguments) {
+        checkArguments(arguments);
+        StringBuilder message = new StringBuilder(literalLength + 16 * slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            message.append(segments[i]).append(arguments[slots[i]]);
+        }
+        return message.append(segments[slots.length]).toString();
+    }
+
+    /**
+     * Renders with arguments looked up by placeholder name, e.g. from {@link #details}, so that a translated
+     * template may order its placeholders differently from the original. Missing names are left as is.
+     */
+    public String format(Map<String, ?> arguments) {
+        StringBuilder message = new StringBuilder(literalLength + 16 * slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            String name = parameterNames[slots[i]];
+            message.append(segments[i]);
+            if (arguments.containsKey(name)) {
+                message.append(arguments.get(name));
+            } else {
+                message.append('{').append(name).append('}');
+            }
+        }
+        return message.append(segments[slots.length]).toString();
+    }
+
+    public boolean hasParameters() {
+        return parameterNames.length > 0;
+    }
+
+    // Unlike Map.of this keeps placeholder order and tolerates null arguments
+    public Map<String, Object> details(Object... arguments) {
+        checkArguments(arguments);
+        Map<String, Object> details = new LinkedHashMap<>(parameterNames.length * 2);
+        for (int i = 0; i < parameterNames.length; i++) {
+            details.put(parameterNames[i], arguments[i]);
+        }
+        return Collections.unmodifiableMap(details);
+    }
+
+    public List<String> getParameterNames() {
+        return List.of(parameterNames);
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    private void checkArguments(Object[] arguments) {
+        if (arguments.length != parameterNames.length) {
+            throw new IllegalArgumentException("Message template '" + pattern + "' expects "
+                    + parameterNames.length + " arguments but got " + arguments.length);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
@@ -0,0 +1,64 @@
+package com.base.utility.exception.utils;
+
+import com.base.utility.exception.response.ErrorBodyTemplate;
+import com.base.utility.exception.response.PreSerializedErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Writes {@link PreSerializedErrorResponse} bodies as JSON without going through Jackson.
+ * Registered ahead of the Jackson converter, and only when {@link #matches} confirms that the
+ * application's mapper would have written the same bytes; other media types fall through to it.
+ */
+public class PreSerializedErrorConverter extends AbstractHttpMessageConverter<PreSerializedErrorResponse> {
+
+    public PreSerializedErrorConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Whether the given mapper serializes error responses exactly like the templates do, which holds
+     * for Spring Boot's default settings. Settings such as dates written as timestamps, a naming
+     * strategy renaming the fields or indented output make it deviate.
+     */
+    public static boolean matches(ObjectMapper objectMapper) {
+        PreSerializedErrorResponse probe = new PreSerializedErrorResponse(
+                ErrorBodyTemplate.of(ErrorCode.INTERNAL_SERVER_ERROR), "probe");
+        try {
+            ByteArrayOutputStream expected = new ByteArrayOutputStream(256);
+            probe.getTemplate().writeTo(expected, probe.getRequestId(), probe.getTimestamp());
+            return Arrays.equals(objectMapper.writeValueAsBytes(probe), expected.toByteArray());
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PreSerializedErrorResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected PreSerializedErrorResponse readInternal(Class<? extends PreSerializedErrorResponse> clazz,
+                                                      HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Pre-serialized error responses are write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(PreSerializedErrorResponse response, HttpOutputMessage outputMessage) throws IOException {
+        response.getTemplate().writeTo(outputMessage.getBody(), response.getRequestId(), response.getTimestamp());
+    }
+}
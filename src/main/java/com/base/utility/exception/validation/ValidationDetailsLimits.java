@@ -0,0 +1,25 @@
+package com.base.utility.exception.validation;
+
+/**
+ * Caps applied when validation errors are copied into an error response.
+ *
+ * @param maxErrors              entries listed before the rest are only counted
+ * @param maxRejectedValueLength characters kept from a rejected string value
+ * @param maxDepth               levels of nested collections, arrays and maps rendered in a rejected value
+ * @param maxCollectionSize      elements rendered per collection, array or map
+ * @param includeRejectedValues  whether rejected values are echoed back at all
+ */
+public record ValidationDetailsLimits(int maxErrors,
+                                      int maxRejectedValueLength,
+                                      int maxDepth,
+                                      int maxCollectionSize,
+                                      boolean includeRejectedValues) {
+
+    public static final ValidationDetailsLimits DEFAULT = new ValidationDetailsLimits(100, 256, 3, 20, true);
+
+    public ValidationDetailsLimits {
+        if (maxErrors < 0 || maxRejectedValueLength < 0 || maxDepth < 0 || maxCollectionSize < 0) {
+            throw new IllegalArgumentException("Validation detail limits must not be negative");
+        }
+    }
+}
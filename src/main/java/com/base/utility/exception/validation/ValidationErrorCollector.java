@@ -0,0 +1,183 @@
+package com.base.utility.exception.validation;
+
+import java.lang.reflect.Array;
+import java.text.NumberFormat;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Collects validation errors in a single pass into bounded response details. The first error per path
+ * is kept; once {@link ValidationDetailsLimits#maxErrors()} paths are listed, further paths are only
+ * counted, once per distinct path, and reported as a summary such as {@code "and 4,213 more"}. Rejected
+ * scalars are serialized as they are; strings are truncated, collections, arrays and maps are cut off at the
+ * configured depth and size, byte arrays are reduced to their length and any other object to its truncated
+ * {@code toString()}, so a rejected entity or upload never ends up in the response in full.
+ */
+public final class ValidationErrorCollector {
+    private static final String ELLIPSIS = "...";
+
+    private final ValidationDetailsLimits limits;
+    private final Map<String, String> messages = new LinkedHashMap<>();
+    private final Map<String, Object> rejectedValues;
+    private Set<String> omittedPaths;
+
+    public ValidationErrorCollector(ValidationDetailsLimits limits) {
+        this.limits = limits;
+        this.rejectedValues = limits.includeRejectedValues() ? new LinkedHashMap<>() : null;
+    }
+
+    public void add(String path, String message) {
+        add(path, message, null, false);
+    }
+
+    public void add(String path, String message, Object rejectedValue) {
+        add(path, message, rejectedValue, true);
+    }
+
+    private void add(String path, String message, Object rejectedValue, boolean hasRejectedValue) {
+        if (messages.containsKey(path)) {
+            return;
+        }
+        if (messages.size() >= limits.maxErrors()) {
+            if (omittedPaths == null) {
+                omittedPaths = new HashSet<>();
+            }
+            omittedPaths.add(path);
+            return;
+        }
+        messages.put(path, message);
+        if (rejectedValues != null && hasRejectedValue) {
+            rejectedValues.put(path, rejectedValue != null ? bound(rejectedValue, 0) : "null");
+        }
+    }
+
+    public Map<String, String> getMessages() {
+        return messages;
+    }
+
+    // Null when rejected values are excluded by configuration
+    public Map<String, Object> getRejectedValues() {
+        return rejectedValues;
+    }
+
+    public int getOmitted() {
+        return omittedPaths != null ? omittedPaths.size() : 0;
+    }
+
+    /**
+     * Adds {@code omitted} and {@code summary} entries to the given details when errors were dropped.
+     */
+    public Map<String, Object> appendSummary(Map<String, Object> details) {
+        int omitted = getOmitted();
+        if (omitted > 0) {
+            details.put("omitted", omitted);
+            details.put("summary", "and " + NumberFormat.getIntegerInstance(Locale.US).format(omitted) + " more");
+        }
+        return details;
+    }
+
+    private Object bound(Object value, int depth) {
+        if (value instanceof CharSequence text) {
+            return truncate(text.toString());
+        }
+        if (value instanceof char[] chars) {
+            return truncate(new String(chars));
+        }
+        if (value instanceof Collection<?> collection) {
+            return depth >= limits.maxDepth() ? collapse(collection.size()) : boundElements(collection, collection.size(), depth);
+        }
+        if (value instanceof Map<?, ?> map) {
+            return depth >= limits.maxDepth() ? collapse(map.size()) : boundEntries(map, depth);
+        }
+        if (value instanceof byte[] bytes) {
+            return "byte[" + bytes.length + "]";
+        }
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            if (depth >= limits.maxDepth()) {
+                return collapse(length);
+            }
+            List<Object> elements = new ArrayList<>(Math.min(length, limits.maxCollectionSize()) + 1);
+            for (int i = 0; i < length && i < limits.maxCollectionSize(); i++) {
+                Object element = Array.get(value, i);
+                elements.add(element != null ? bound(element, depth + 1) : null);
+            }
+            if (length > limits.maxCollectionSize()) {
+                elements.add(summarize(length - limits.maxCollectionSize()));
+            }
+            return elements;
+        }
+        if (isScalar(value)) {
+            return value;
+        }
+        return truncate(describe(value));
+    }
+
+    // Written by Jackson as a single short value
+    private static boolean isScalar(Object value) {
+        return value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum<?> || value instanceof TemporalAccessor || value instanceof Date
+                || value instanceof UUID;
+    }
+
+    private static String describe(Object value) {
+        try {
+            String text = value.toString();
+            return text != null ? text : value.getClass().getSimpleName();
+        } catch (RuntimeException ex) {
+            return value.getClass().getSimpleName();
+        }
+    }
+
+    private List<Object> boundElements(Iterable<?> values, int size, int depth) {
+        List<Object> elements = new ArrayList<>(Math.min(size, limits.maxCollectionSize()) + 1);
+        for (Object element : values) {
+            if (elements.size() == limits.maxCollectionSize()) {
+                elements.add(summarize(size - limits.maxCollectionSize()));
+                break;
+            }
+            elements.add(element != null ? bound(element, depth + 1) : null);
+        }
+        return elements;
+    }
+
+    private Map<Object, Object> boundEntries(Map<?, ?> map, int depth) {
+        Map<Object, Object> entries = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entries.size() == limits.maxCollectionSize()) {
+                entries.put(ELLIPSIS, summarize(map.size() - limits.maxCollectionSize()));
+                break;
+            }
+            Object element = entry.getValue();
+            Object key = entry.getKey() instanceof CharSequence text ? truncate(text.toString()) : entry.getKey();
+            entries.put(key, element != null ? bound(element, depth + 1) : null);
+        }
+        return entries;
+    }
+
+    private String truncate(String text) {
+        int max = limits.maxRejectedValueLength();
+        if (text.length() <= max) {
+            return text;
+        }
+        return text.substring(0, max) + ELLIPSIS + " (" + (text.length() - max) + " more characters)";
+    }
+
+    private static String summarize(int remaining) {
+        return ELLIPSIS + " (" + remaining + " more)";
+    }
+
+    // Stands in for a structure nested deeper than maxDepth
+    private static String collapse(int size) {
+        return ELLIPSIS + " (" + size + " elements)";
+    }
+}
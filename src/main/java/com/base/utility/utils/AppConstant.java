@@ -4,4 +4,6 @@ public final class AppConstant {
     private AppConstant() {}
     public static final String REQUEST_UID_HEADER = "X-Request-ID";
     public static final String MDC_KEY = "requestUID";
+    // Request attribute holding the id set by RequestCorrelationFilter
+    public static final String REQUEST_ID_ATTRIBUTE = "com.base.utility.requestId";
 }
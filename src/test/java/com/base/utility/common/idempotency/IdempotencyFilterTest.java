@@ -0,0 +1,228 @@
+package com.base.utility.common.idempotency;
+
+import com.base.utility.common.autoconfigure.BaseUtilityProperties;
+import com.base.utility.exception.utils.ErrorCode;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyFilterTest {
+    private final AtomicInteger executions = new AtomicInteger();
+    private BaseUtilityProperties.Idempotency properties;
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BaseUtilityProperties.Idempotency();
+        properties.setMaxBodyBytes(64);
+        filter = newFilter();
+    }
+
+    @Test
+    void replaysTheCachedResponseForARetry() throws Exception {
+        MockHttpServletResponse first = send("key-1", "{\"amount\":10}", echo());
+        MockHttpServletResponse retry = send("key-1", "{\"amount\":10}", echo());
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(first.getHeader("Idempotent-Replayed")).isNull();
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(retry.getContentType()).isEqualTo("application/json");
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+    }
+
+    @Test
+    void rejectsAKeyReusedForADifferentRequest() throws Exception {
+        send("key-1", "{\"amount\":10}", echo());
+        MockHttpServletResponse reused = send("key-1", "{\"amount\":20}", echo());
+
+        assertThat(executions).hasValue(1);
+        assertThat(reused.getStatus()).isEqualTo(422);
+        assertThat(reused.getContentAsString()).contains(ErrorCode.RESOURCE_CONFLICT.getCode());
+    }
+
+    @Test
+    void scopesKeysToThePrincipal() throws Exception {
+        send("key-1", "{\"amount\":10}", echo());
+
+        MockHttpServletRequest request = request("key-1", "{\"amount\":10}");
+        request.setUserPrincipal(() -> "someone-else");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(echo()));
+
+        assertThat(executions).hasValue(2);
+        assertThat(response.getHeader("Idempotent-Replayed")).isNull();
+    }
+
+    @Test
+    void doesNotCacheServerErrors() throws Exception {
+        send("key-1", "{}", status(503));
+        MockHttpServletResponse retry = send("key-1", "{}", status(503));
+
+        assertThat(executions).hasValue(2);
+        assertThat(retry.getHeader("Idempotent-Replayed")).isNull();
+    }
+
+    @Test
+    void passesLargeResponsesThroughWithoutCachingThem() throws Exception {
+        String large = "x".repeat(200);
+        MockHttpServletResponse first = send("key-1", "{}", body(large));
+        MockHttpServletResponse retry = send("key-1", "{}", body(large));
+
+        assertThat(executions).hasValue(2);
+        assertThat(first.getContentAsString()).isEqualTo(large);
+        assertThat(retry.getContentAsString()).isEqualTo(large);
+        assertThat(retry.getHeader("Idempotent-Replayed")).isNull();
+    }
+
+    @Test
+    void retryWaitsForTheRequestInFlightAndReplaysItsResponse() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        HttpServlet slow = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                started.countDown();
+                await(release);
+                respond(res, 201, "{\"id\":1}");
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<MockHttpServletResponse> first = executor.submit(() -> send("key-1", "{}", slow));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<MockHttpServletResponse> retry = executor.submit(() -> send("key-1", "{}", slow));
+
+            // The retry must not execute while the first request is still running
+            Thread.sleep(100);
+            assertThat(retry.isDone()).isFalse();
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS).getHeader("Idempotent-Replayed")).isNull();
+            MockHttpServletResponse replayed = retry.get(5, TimeUnit.SECONDS);
+            assertThat(replayed.getHeader("Idempotent-Replayed")).isEqualTo("true");
+            assertThat(replayed.getContentAsString()).isEqualTo("{\"id\":1}");
+            assertThat(executions).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void answersConflictWhenTheRequestInFlightOutlastsTheWait() throws Exception {
+        properties.setWaitTimeout(Duration.ofMillis(50));
+        filter = newFilter();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        HttpServlet slow = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                started.countDown();
+                await(release);
+                respond(res, 201, "{}");
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<MockHttpServletResponse> first = executor.submit(() -> send("key-1", "{}", slow));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            MockHttpServletResponse retry = send("key-1", "{}", slow);
+            assertThat(retry.getStatus()).isEqualTo(409);
+            assertThat(retry.getContentAsString()).contains(ErrorCode.RESOURCE_CONFLICT.getCode());
+
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(201);
+            assertThat(executions).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsAnEmptyKey() throws Exception {
+        MockHttpServletResponse response = send("", "{}", echo());
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(executions).hasValue(0);
+    }
+
+    private IdempotencyFilter newFilter() {
+        return new IdempotencyFilter(new IdempotencyCache(4, 100, 1 << 20, Duration.ofMinutes(1)), properties);
+    }
+
+    private MockHttpServletResponse send(String key, String body, HttpServlet servlet) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(key, body), response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/payments");
+        request.addHeader("Idempotency-Key", key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private HttpServlet echo() {
+        return new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                String body = new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+                respond(res, 201, "{\"execution\":" + executions.get() + ",\"echo\":" + body + "}");
+            }
+        };
+    }
+
+    private HttpServlet status(int status) {
+        return new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                respond(res, status, "{}");
+            }
+        };
+    }
+
+    private HttpServlet body(String body) {
+        return new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                respond(res, 200, body);
+            }
+        };
+    }
+
+    private void respond(HttpServletResponse response, int status, String body) throws IOException {
+        executions.incrementAndGet();
+        response.setStatus(status);
+        response.setContentType("application/json");
+        response.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.base.utility.common.limit;
+
+import com.base.utility.common.autoconfigure.BaseUtilityProperties;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+    private static final FilterChain EMPTY_CHAIN = (request, response) -> { };
+
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        BaseUtilityProperties.ConcurrencyLimitGroup exports = new BaseUtilityProperties.ConcurrencyLimitGroup();
+        exports.setPathPatterns(List.of("/api/exports/**"));
+        exports.setInitialLimit(1);
+        exports.setMinLimit(1);
+        exports.setMaxLimit(1);
+        BaseUtilityProperties.ConcurrencyLimit properties = new BaseUtilityProperties.ConcurrencyLimit();
+        properties.getGroups().put("exports", exports);
+        filter = new ConcurrencyLimitFilter(properties);
+    }
+
+    @Test
+    void matchesGroupsAgainstThePathWithoutTheContextPath() throws Exception {
+        MockHttpServletResponse concurrent = whileOneExportIsInFlight(request("/app/api/exports/43"));
+
+        assertThat(concurrent.getStatus()).isEqualTo(429);
+        assertThat(concurrent.getHeader("Retry-After")).isEqualTo("1");
+    }
+
+    @Test
+    void leavesOtherPathsToTheDefaultLimiter() throws Exception {
+        MockHttpServletResponse concurrent = whileOneExportIsInFlight(request("/app/api/users/42"));
+
+        assertThat(concurrent.getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletResponse whileOneExportIsInFlight(MockHttpServletRequest concurrentRequest) throws Exception {
+        MockHttpServletResponse concurrent = new MockHttpServletResponse();
+        FilterChain holdingPermit = (request, response) -> filter.doFilter(concurrentRequest, concurrent, EMPTY_CHAIN);
+        filter.doFilter(request("/app/api/exports/42"), new MockHttpServletResponse(), holdingPermit);
+        return concurrent;
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setContextPath("/app");
+        return request;
+    }
+}
@@ -0,0 +1,154 @@
+package com.base.utility.common.parsing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "base.utility.request-parsing.max-body-size=2000",
+        "base.utility.request-parsing.max-nesting-depth=5",
+        "base.utility.request-parsing.max-string-length=20",
+        "base.utility.request-parsing.max-number-length=6",
+        "base.utility.request-parsing.max-array-elements=4"
+})
+@AutoConfigureMockMvc
+class RequestParsingLimitsTest {
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void acceptsBodiesWithinTheLimits() throws Exception {
+        postJson("/orders", "{\"name\":\"widget\",\"quantities\":[1,2,3,4]}")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("widget"));
+    }
+
+    @Test
+    void rejectsBodiesOverTheSizeLimitWith413() throws Exception {
+        postJson("/orders", "{\"name\":\"" + "x".repeat(3000) + "\"}")
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(violation(ParsingLimit.BODY_SIZE, 2000));
+    }
+
+    @Test
+    void rejectsBodiesNestedTooDeeply() throws Exception {
+        postJson("/any", "[[[[[[[1]]]]]]]")
+                .andExpect(status().isBadRequest())
+                .andExpect(violation(ParsingLimit.NESTING_DEPTH, 5));
+    }
+
+    @Test
+    void rejectsStringsOverTheLengthLimit() throws Exception {
+        postJson("/orders", "{\"name\":\"" + "x".repeat(30) + "\"}")
+                .andExpect(status().isBadRequest())
+                .andExpect(violation(ParsingLimit.STRING_LENGTH, 20));
+    }
+
+    @Test
+    void rejectsNumbersOverTheLengthLimit() throws Exception {
+        postJson("/orders", "{\"quantities\":[12345678]}")
+                .andExpect(status().isBadRequest())
+                .andExpect(violation(ParsingLimit.NUMBER_LENGTH, 6));
+    }
+
+    @Test
+    void rejectsArraysWithTooManyElements() throws Exception {
+        postJson("/orders", "{\"quantities\":[1,2,3,4,5]}")
+                .andExpect(status().isBadRequest())
+                .andExpect(violation(ParsingLimit.ARRAY_ELEMENTS, 4));
+    }
+
+    @Test
+    void countsElementsPerArrayRatherThanPerBody() throws Exception {
+        postJson("/any", "[[1,2,3,4],[1,2,3,4],[1],[2]]")
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void appliesTheArrayLimitToSmileBodies() throws Exception {
+        byte[] body = new ObjectMapper(new SmileFactory()).writeValueAsBytes(Map.of("quantities", List.of(1, 2, 3, 4, 5)));
+
+        mockMvc.perform(post("/orders").contentType(SMILE).accept(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(violation(ParsingLimit.ARRAY_ELEMENTS, 4));
+    }
+
+    @Test
+    void appliesTheStreamConstraintsToCborBodies() throws Exception {
+        byte[] body = new ObjectMapper(new CBORFactory()).writeValueAsBytes(Map.of("name", "x".repeat(30)));
+
+        mockMvc.perform(post("/orders").contentType(CBOR).accept(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(violation(ParsingLimit.STRING_LENGTH, 20));
+    }
+
+    @Test
+    void leavesTheApplicationObjectMapperUnlimited() throws Exception {
+        assertThat(objectMapper.readValue("[1,2,3,4,5,6]", List.class)).hasSize(6);
+        assertThat(objectMapper.readTree("[[[[[[[[1]]]]]]]]").isArray()).isTrue();
+    }
+
+    private ResultActions postJson(String path, String body) throws Exception {
+        return mockMvc.perform(post(path).contentType(MediaType.APPLICATION_JSON).content(body));
+    }
+
+    private static ResultMatcher violation(ParsingLimit limit, long max) {
+        return result -> {
+            jsonPath("$.error.code").value(limit.getErrorCode().getCode()).match(result);
+            jsonPath("$.error.details.limit").value(limit.getProperty()).match(result);
+            jsonPath("$.error.details.max").value(max).match(result);
+        };
+    }
+
+    public record Order(String name, List<Integer> quantities) {
+    }
+
+    @RestController
+    static class OrderController {
+        @PostMapping("/orders")
+        Order create(@RequestBody Order order) {
+            return order;
+        }
+
+        @PostMapping("/any")
+        String any(@RequestBody Object body) {
+            return "ok";
+        }
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = {DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class})
+    @Import(OrderController.class)
+    static class TestApplication {
+    }
+}
@@ -0,0 +1,79 @@
+package com.base.utility.common.ratelimit;
+
+import com.base.utility.common.autoconfigure.BaseUtilityProperties;
+import com.base.utility.exception.utils.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RateLimitFilterTest {
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        BaseUtilityProperties.RateLimit properties = new BaseUtilityProperties.RateLimit();
+        properties.setCapacity(2);
+        properties.setPeriod(Duration.ofHours(1));
+        RateLimitFilter filter = new RateLimitFilter(new InMemoryRateLimitStore(4, 100),
+                new PrincipalRateLimitKeyResolver(), properties);
+        mockMvc = MockMvcBuilders.standaloneSetup(new PingController())
+                .addFilters(filter)
+                .build();
+    }
+
+    @Test
+    void reportsTheRemainingQuota() throws Exception {
+        mockMvc.perform(get("/ping"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Limit", "2"))
+                .andExpect(header().string("RateLimit-Remaining", "1"))
+                .andExpect(header().exists("RateLimit-Reset"))
+                .andExpect(header().doesNotExist("Retry-After"));
+    }
+
+    @Test
+    void rejectsRequestsOverTheQuotaWith429() throws Exception {
+        mockMvc.perform(get("/ping")).andExpect(status().isOk());
+        mockMvc.perform(get("/ping")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/ping"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("RateLimit-Remaining", "0"))
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.status").value("error"))
+                .andExpect(jsonPath("$.error.code").value(ErrorCode.TOO_MANY_REQUESTS.getCode()));
+    }
+
+    @Test
+    void keepsSeparateQuotasPerClient() throws Exception {
+        mockMvc.perform(get("/ping")).andExpect(status().isOk());
+        mockMvc.perform(get("/ping")).andExpect(status().isOk());
+        mockMvc.perform(get("/ping")).andExpect(status().isTooManyRequests());
+
+        mockMvc.perform(get("/ping").with(request -> {
+                    request.setRemoteAddr("10.0.0.2");
+                    return request;
+                }))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/ping").principal(() -> "alice"))
+                .andExpect(status().isOk());
+    }
+
+    @RestController
+    static class PingController {
+        @GetMapping("/ping")
+        String ping() {
+            return "pong";
+        }
+    }
+}
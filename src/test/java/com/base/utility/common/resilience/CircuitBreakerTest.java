@@ -0,0 +1,127 @@
+package com.base.utility.common.resilience;
+
+import com.base.utility.exception.type.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+    private static final Duration OPEN_DURATION = Duration.ofMillis(50);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(2);
+
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker("inventory", new CircuitBreakerConfig(
+            0.5, 0.5, Duration.ofSeconds(1), 4, Duration.ofSeconds(10), 10, OPEN_DURATION, 2,
+            CircuitBreakerConfig.DEFAULT_RECORD_FAILURE));
+    private final List<String> transitions = new ArrayList<>();
+
+    CircuitBreakerTest() {
+        circuitBreaker.addListener((breaker, from, to) -> transitions.add(from + "->" + to));
+    }
+
+    @Test
+    void staysClosedBelowTheMinimumNumberOfCalls() {
+        fail(3);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void opensOnceTheFailureRateReachesTheThreshold() {
+        succeed(2);
+        fail(2);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(transitions).containsExactly("CLOSED->OPEN");
+    }
+
+    @Test
+    void opensOnceTheSlowCallRateReachesTheThreshold() {
+        for (int i = 0; i < 2; i++) {
+            circuitBreaker.onSuccess(FAST);
+            circuitBreaker.onSuccess(SLOW);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void rejectsCallsWhileOpen() {
+        circuitBreaker.transitionToOpen();
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        assertThatThrownBy(() -> circuitBreaker.execute(() -> "unreachable"))
+                .isInstanceOf(CallNotPermittedException.class);
+        assertThat(circuitBreaker.getNotPermittedCalls()).isEqualTo(2);
+    }
+
+    @Test
+    void closesAfterTheHalfOpenTrialCallsSucceed() throws InterruptedException {
+        circuitBreaker.transitionToOpen();
+        Thread.sleep(OPEN_DURATION.toMillis() + 20);
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        // Only halfOpenCalls trial calls are let through
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        circuitBreaker.onSuccess(FAST);
+        circuitBreaker.onSuccess(FAST);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED");
+    }
+
+    @Test
+    void reopensOnTheFirstFailedTrialCall() throws InterruptedException {
+        circuitBreaker.transitionToOpen();
+        Thread.sleep(OPEN_DURATION.toMillis() + 20);
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        circuitBreaker.onError(FAST, new IllegalStateException("down"));
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.getTransitionsTo(CircuitBreaker.State.OPEN)).isEqualTo(2);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void startsFromAnEmptyWindowAfterClosing() {
+        fail(4);
+        circuitBreaker.reset();
+
+        fail(1);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void doesNotCountBusinessExceptionsAsFailures() {
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> circuitBreaker.execute(() -> {
+                throw new ResourceNotFoundException("Item", "42");
+            })).isInstanceOf(ResourceNotFoundException.class);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private void succeed(int calls) {
+        for (int i = 0; i < calls; i++) {
+            circuitBreaker.onSuccess(FAST);
+        }
+    }
+
+    private void fail(int calls) {
+        for (int i = 0; i < calls; i++) {
+            circuitBreaker.onError(FAST, new IllegalStateException("down"));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.base.utility.exception.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PreSerializedErrorConverterTest {
+
+    @Test
+    void matchesSpringBootDefaultMapperSettings() {
+        assertThat(PreSerializedErrorConverter.matches(bootDefaults().build())).isTrue();
+    }
+
+    @Test
+    void doesNotMatchAMapperWritingDatesAsTimestamps() {
+        ObjectMapper objectMapper = bootDefaults().featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+
+        assertThat(PreSerializedErrorConverter.matches(objectMapper)).isFalse();
+    }
+
+    @Test
+    void doesNotMatchAMapperRenamingProperties() {
+        ObjectMapper objectMapper = bootDefaults().propertyNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE).build();
+
+        assertThat(PreSerializedErrorConverter.matches(objectMapper)).isFalse();
+    }
+
+    @Test
+    void doesNotMatchAMapperIndentingOutput() {
+        ObjectMapper objectMapper = bootDefaults().indentOutput(true).build();
+
+        assertThat(PreSerializedErrorConverter.matches(objectMapper)).isFalse();
+    }
+
+    // What JacksonAutoConfiguration configures on top of the builder's own defaults
+    private static Jackson2ObjectMapperBuilder bootDefaults() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS);
+    }
+}